@@ -18,9 +18,11 @@ package org.jboss.builder;
 
 import static org.jboss.builder.Execution.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -368,6 +370,29 @@ public final class BuildContext {
         return execution.getExecutor();
     }
 
+    /**
+     * Determine whether the step of this context depends, directly or transitively, on the step of the given context.
+     * If it does not, and neither step depends on the other, the two steps may be executed concurrently.
+     *
+     * @param other the other build context (must not be {@code null})
+     * @return {@code true} if this step can only run after the step of {@code other} has completed
+     */
+    public boolean dependsOn(BuildContext other) {
+        Assert.checkNotNullParam("other", other);
+        final Set<StepInfo> visited = new HashSet<>();
+        final ArrayDeque<StepInfo> queue = new ArrayDeque<>(other.stepInfo.getDependents());
+        StepInfo current;
+        while ((current = queue.poll()) != null) {
+            if (current == stepInfo) {
+                return true;
+            }
+            if (visited.add(current)) {
+                queue.addAll(current.getDependents());
+            }
+        }
+        return false;
+    }
+
     // -- //
 
     private void doProduce(ItemId id, BuildItem value) {
@@ -393,11 +418,15 @@ public final class BuildContext {
         }
     }
 
+    StepInfo getStepInfo() {
+        return stepInfo;
+    }
+
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
@@ -407,6 +436,7 @@ public final class BuildContext {
         final BuildStep buildStep = stepInfo.getBuildStep();
         final long start = System.currentTimeMillis();
         log.tracef("Starting step \"%s\"", buildStep);
+        execution.stepStarted(stepInfo);
         try {
             if (!execution.isErrorReported()) {
                 try {
@@ -421,6 +451,7 @@ public final class BuildContext {
                 }
             }
         } finally {
+            execution.stepFinished(stepInfo);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
             execution.removeBuildContext(stepInfo, this);
         }
@@ -16,6 +16,7 @@
 
 package org.jboss.builder;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,6 +37,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Path traceDirectory;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -54,6 +57,31 @@ public final class BuildExecutionBuilder {
         return buildTargetName;
     }
 
+    /**
+     * Set the maximum number of build steps which may run concurrently. Defaults to the number of available processors.
+     *
+     * @param parallelism the parallelism (must be greater than zero)
+     * @return this builder
+     */
+    public BuildExecutionBuilder setParallelism(int parallelism) {
+        Assert.checkMinimumParameter("parallelism", 1, parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Set the directory the execution trace is written to. If set, the start and end time and the executing thread of
+     * every build step are recorded, and a Chrome trace-event file ({@code build-trace.json}) and a critical path
+     * summary ({@code build-critical-path.txt}) are written to the directory once the build completes.
+     *
+     * @param traceDirectory the trace directory, or {@code null} to disable tracing
+     * @return this builder
+     */
+    public BuildExecutionBuilder setTraceDirectory(Path traceDirectory) {
+        this.traceDirectory = traceDirectory;
+        return this;
+    }
+
     /**
      * Provide an initial item.
      *
@@ -138,6 +166,14 @@ public final class BuildExecutionBuilder {
 
     // -- //
 
+    int getParallelism() {
+        return parallelism;
+    }
+
+    Path getTraceDirectory() {
+        return traceDirectory;
+    }
+
     private void produce(final ItemId id, final BuildItem value) {
         if (!buildChain.hasInitial(id)) {
             throw Messages.msg.undeclaredItem(id);
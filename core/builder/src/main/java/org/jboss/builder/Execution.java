@@ -19,14 +19,21 @@ package org.jboss.builder;
 import static java.lang.Math.max;
 import static java.util.concurrent.locks.LockSupport.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.builder.diag.Diagnostic;
 import org.jboss.builder.item.BuildItem;
@@ -47,10 +54,14 @@ final class Execution {
     private final Set<ItemId> finalIds;
     private final ConcurrentHashMap<StepInfo, BuildContext> contextCache = new ConcurrentHashMap<>();
     private final EnhancedQueueExecutor executor;
+    private final ThreadPoolExecutor stepExecutor;
+    private final AtomicLong stepSequence = new AtomicLong();
     private final List<Diagnostic> diagnostics = new ArrayList<>();
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final Path traceDirectory;
+    private final ExecutionTrace trace;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -62,10 +73,18 @@ final class Execution {
         final EnhancedQueueExecutor.Builder executorBuilder = new EnhancedQueueExecutor.Builder();
         executorBuilder.setCorePoolSize(8).setMaximumPoolSize(1024);
         executorBuilder.setExceptionHandler(JBossExecutors.loggingExceptionHandler());
-        executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
-                JBossExecutors.loggingExceptionHandler(), null));
+        final ThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null,
+                "build-%t", JBossExecutors.loggingExceptionHandler(), null);
+        executorBuilder.setThreadFactory(threadFactory);
         buildTargetName = builder.getBuildTargetName();
+        traceDirectory = builder.getTraceDirectory();
+        trace = traceDirectory != null ? new ExecutionTrace() : null;
         executor = executorBuilder.build();
+        // ready steps are ordered by the length of the longest path to an end step so that the critical path is not
+        // held up by steps which nothing else is waiting for
+        final int parallelism = builder.getParallelism();
+        stepExecutor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), threadFactory);
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
             done = true;
@@ -87,9 +106,10 @@ final class Execution {
         final long start = System.nanoTime();
         runningThread = Thread.currentThread();
         // run the build
-        final List<StepInfo> startSteps = chain.getStartSteps();
+        final List<StepInfo> startSteps = new ArrayList<>(chain.getStartSteps());
+        startSteps.sort(Comparator.comparingInt(StepInfo::getPathLength).reversed());
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -106,9 +126,11 @@ final class Execution {
                 Thread.currentThread().interrupt();
             runningThread = null;
         }
+        stepExecutor.shutdown();
         executor.shutdown();
         for (;;)
             try {
+                stepExecutor.awaitTermination(1000L, TimeUnit.DAYS);
                 executor.awaitTermination(1000L, TimeUnit.DAYS);
                 break;
             } catch (InterruptedException e) {
@@ -117,6 +139,14 @@ final class Execution {
                 if (intr)
                     Thread.currentThread().interrupt();
             }
+        if (trace != null) {
+            try {
+                trace.write(traceDirectory);
+                log.infof("Build trace written to %s", traceDirectory);
+            } catch (IOException e) {
+                log.warnf(e, "Unable to write build trace to %s", traceDirectory);
+            }
+        }
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.getLevel() == Diagnostic.Level.ERROR) {
                 BuildException failed = new BuildException("Build failed due to errors", diagnostic.getThrown(),
@@ -135,6 +165,22 @@ final class Execution {
                 max(0, System.nanoTime() - start));
     }
 
+    void schedule(BuildContext buildContext) {
+        stepExecutor.execute(new ScheduledStep(buildContext, stepSequence.getAndIncrement()));
+    }
+
+    void stepStarted(StepInfo stepInfo) {
+        if (trace != null) {
+            trace.started(stepInfo);
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo) {
+        if (trace != null) {
+            trace.finished(stepInfo);
+        }
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -171,4 +217,27 @@ final class Execution {
             unpark(runningThread);
         }
     }
+
+    /**
+     * A ready step. Steps with a longer path to an end step run first, other steps run in the order they became ready.
+     */
+    static final class ScheduledStep implements Runnable, Comparable<ScheduledStep> {
+        private final BuildContext buildContext;
+        private final long sequence;
+
+        ScheduledStep(BuildContext buildContext, long sequence) {
+            this.buildContext = buildContext;
+            this.sequence = sequence;
+        }
+
+        public void run() {
+            buildContext.run();
+        }
+
+        public int compareTo(ScheduledStep other) {
+            final int result = Integer.compare(other.buildContext.getStepInfo().getPathLength(),
+                    buildContext.getStepInfo().getPathLength());
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
 }
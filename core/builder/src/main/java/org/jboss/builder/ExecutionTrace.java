@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.builder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the start and end time and the executing thread of every step of a single build execution.
+ * <p>
+ * The trace can be written as a Chrome trace-event file (see {@code chrome://tracing}) and as a plain-text summary
+ * of the critical path, i.e. the chain of steps which determined the total duration of the build.
+ */
+final class ExecutionTrace {
+
+    static final String TRACE_FILE = "build-trace.json";
+    static final String CRITICAL_PATH_FILE = "build-critical-path.txt";
+
+    private final long start = System.nanoTime();
+    private final ConcurrentHashMap<StepInfo, Record> records = new ConcurrentHashMap<>();
+
+    void started(StepInfo stepInfo) {
+        records.put(stepInfo, new Record(stepInfo, Thread.currentThread(), System.nanoTime()));
+    }
+
+    void finished(StepInfo stepInfo) {
+        final Record record = records.get(stepInfo);
+        if (record != null) {
+            record.end = System.nanoTime();
+        }
+    }
+
+    /**
+     * Compute the critical path. The path starts with the step that finished last and continues with its dependency
+     * that finished last, until a step without dependencies is reached.
+     *
+     * @return the steps on the critical path, in execution order
+     */
+    List<Record> getCriticalPath() {
+        final Map<StepInfo, List<StepInfo>> dependencies = new HashMap<>();
+        Record last = null;
+        for (Record record : records.values()) {
+            for (StepInfo dependent : record.stepInfo.getDependents()) {
+                dependencies.computeIfAbsent(dependent, k -> new ArrayList<>()).add(record.stepInfo);
+            }
+            if (last == null || record.end > last.end) {
+                last = record;
+            }
+        }
+        final List<Record> path = new ArrayList<>();
+        Record current = last;
+        while (current != null) {
+            path.add(current);
+            Record next = null;
+            for (StepInfo dependency : dependencies.getOrDefault(current.stepInfo, Collections.emptyList())) {
+                final Record record = records.get(dependency);
+                if (record != null && (next == null || record.end > next.end)) {
+                    next = record;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        writeChromeTrace(directory.resolve(TRACE_FILE));
+        writeCriticalPath(directory.resolve(CRITICAL_PATH_FILE));
+    }
+
+    private void writeChromeTrace(Path file) throws IOException {
+        final List<TraceEventWriter.Event> events = new ArrayList<>();
+        for (Record record : sortedRecords()) {
+            events.add(new TraceEventWriter.Event("build-step", record.getName(), record.threadName,
+                    record.start - start, record.getDuration()));
+        }
+        TraceEventWriter.write(file, events);
+    }
+
+    private void writeCriticalPath(Path file) throws IOException {
+        final List<Record> path = getCriticalPath();
+        long total = 0;
+        for (Record record : path) {
+            total += record.getDuration();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(String.format("Critical path: %d steps, %d ms of %d ms total build time%n", path.size(),
+                    toMillis(total), toMillis(getTotalDuration())));
+            writer.write(String.format("%n%10s %10s  %s%n", "start [ms]", "took [ms]", "step"));
+            for (Record record : path) {
+                writer.write(String.format("%10d %10d  %s [%s]%n", toMillis(record.start - start),
+                        toMillis(record.getDuration()), record.getName(), record.threadName));
+            }
+        }
+    }
+
+    private long getTotalDuration() {
+        long end = start;
+        for (Record record : records.values()) {
+            end = Math.max(end, record.end);
+        }
+        return end - start;
+    }
+
+    private List<Record> sortedRecords() {
+        final List<Record> sorted = new ArrayList<>(records.values());
+        sorted.sort((r1, r2) -> Long.compare(r1.start, r2.start));
+        return sorted;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    static final class Record {
+        private final StepInfo stepInfo;
+        private final String threadName;
+        private final long start;
+        private volatile long end;
+
+        Record(StepInfo stepInfo, Thread thread, long start) {
+            this.stepInfo = stepInfo;
+            this.threadName = thread.getName();
+            this.start = start;
+            this.end = start;
+        }
+
+        String getName() {
+            return String.valueOf(stepInfo.getBuildStep());
+        }
+
+        long getDuration() {
+            return end - start;
+        }
+    }
+}
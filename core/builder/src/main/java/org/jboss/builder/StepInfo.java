@@ -26,6 +26,7 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final int pathLength;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
@@ -33,6 +34,11 @@ final class StepInfo {
         produces = builder.getRealProduces();
         this.dependencies = dependencies;
         this.dependents = dependents;
+        int maxDependentPathLength = 0;
+        for (StepInfo dependent : dependents) {
+            maxDependentPathLength = Math.max(maxDependentPathLength, dependent.getPathLength());
+        }
+        this.pathLength = maxDependentPathLength + 1;
     }
 
     BuildStep getBuildStep() {
@@ -54,4 +60,13 @@ final class StepInfo {
     Set<ItemId> getProduces() {
         return produces;
     }
+
+    /**
+     * Get the number of steps on the longest path from this step to an end step, including this step.
+     *
+     * @return the path length
+     */
+    int getPathLength() {
+        return pathLength;
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.builder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes Chrome trace-event files (see {@code chrome://tracing}), with one row per thread and one complete event per
+ * timed operation.
+ */
+public final class TraceEventWriter {
+
+    private TraceEventWriter() {
+    }
+
+    /**
+     * Write the given events to a file, creating its parent directories if needed.
+     *
+     * @param file the file to write
+     * @param events the events, in the order in which they are written
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, List<Event> events) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Map<String, Integer> threadIds = new LinkedHashMap<>();
+        for (Event event : events) {
+            threadIds.putIfAbsent(event.thread, threadIds.size() + 1);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\"traceEvents\":[\n");
+            boolean first = true;
+            for (Map.Entry<String, Integer> thread : threadIds.entrySet()) {
+                if (!first) {
+                    writer.write(",\n");
+                }
+                first = false;
+                writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getValue()
+                        + ",\"args\":{\"name\":\"" + escape(thread.getKey()) + "\"}}");
+            }
+            for (Event event : events) {
+                if (!first) {
+                    writer.write(",\n");
+                }
+                first = false;
+                writer.write("{\"name\":\"" + escape(event.name) + "\",\"cat\":\"" + escape(event.category)
+                        + "\",\"ph\":\"X\",\"pid\":1,\"tid\":" + threadIds.get(event.thread) + ",\"ts\":"
+                        + TimeUnit.NANOSECONDS.toMicros(event.offset) + ",\"dur\":"
+                        + TimeUnit.NANOSECONDS.toMicros(event.duration) + "}");
+            }
+            writer.write("\n]}\n");
+        }
+    }
+
+    /**
+     * Escape a value for use in a JSON string.
+     *
+     * @param value the value
+     * @return the escaped value
+     */
+    public static String escape(String value) {
+        final StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    builder.append('\\').append(c);
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A timed operation.
+     */
+    public static final class Event {
+        private final String category;
+        private final String name;
+        private final String thread;
+        private final long offset;
+        private final long duration;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param category the event category
+         * @param name the event name
+         * @param thread the name of the thread which executed the operation
+         * @param offset the start time in nanoseconds, relative to the start of the trace
+         * @param duration the duration in nanoseconds
+         */
+        public Event(String category, String name, String thread, long offset, long duration) {
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.offset = offset;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.builder;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.builder.item.MultiBuildItem;
+import org.jboss.builder.item.SimpleBuildItem;
+import org.junit.Test;
+
+/**
+ */
+public class SchedulingTests {
+
+    public static final class StartItem extends SimpleBuildItem {
+    }
+
+    public static final class MiddleItem extends SimpleBuildItem {
+    }
+
+    public static final class MiddleItem2 extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends MultiBuildItem {
+    }
+
+    @Test
+    public void testLongerPathRunsFirst() throws ChainBuildException, BuildException {
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(context -> {
+            executed.add("start");
+            context.produce(new StartItem());
+        }).produces(StartItem.class).build();
+        // several short steps which become ready at the same time as the long path
+        for (int i = 0; i < 5; i++) {
+            final String name = "short" + i;
+            builder.addBuildStep(context -> {
+                executed.add(name);
+                context.consume(StartItem.class);
+                context.produce(new FinalItem());
+            }).consumes(StartItem.class).produces(FinalItem.class).build();
+        }
+        builder.addBuildStep(context -> {
+            executed.add("long1");
+            context.consume(StartItem.class);
+            context.produce(new MiddleItem());
+        }).consumes(StartItem.class).produces(MiddleItem.class).build();
+        builder.addBuildStep(context -> {
+            executed.add("long2");
+            context.consume(MiddleItem.class);
+            context.produce(new MiddleItem2());
+        }).consumes(MiddleItem.class).produces(MiddleItem2.class).build();
+        builder.addBuildStep(context -> {
+            executed.add("long3");
+            context.consume(MiddleItem2.class);
+            context.produce(new FinalItem());
+        }).consumes(MiddleItem2.class).produces(FinalItem.class).build();
+        builder.addFinal(FinalItem.class);
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").setParallelism(1).execute();
+        assertEquals(6, result.consumeMulti(FinalItem.class).size());
+        assertEquals(Arrays.asList("start", "long1", "long2"), executed.subList(0, 3));
+    }
+
+    @Test
+    public void testDependsOn() throws ChainBuildException, BuildException {
+        final Map<String, BuildContext> contexts = new ConcurrentHashMap<>();
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(context -> {
+            contexts.put("start", context);
+            context.produce(new StartItem());
+        }).produces(StartItem.class).build();
+        builder.addBuildStep(context -> {
+            contexts.put("short", context);
+            context.produce(new FinalItem());
+        }).consumes(StartItem.class).produces(FinalItem.class).build();
+        builder.addBuildStep(context -> {
+            contexts.put("long1", context);
+            context.produce(new MiddleItem());
+        }).consumes(StartItem.class).produces(MiddleItem.class).build();
+        builder.addBuildStep(context -> {
+            contexts.put("long2", context);
+            context.produce(new FinalItem());
+        }).consumes(MiddleItem.class).produces(FinalItem.class).build();
+        builder.addFinal(FinalItem.class);
+        builder.build().createExecutionBuilder("my-app.jar").execute();
+        assertTrue(contexts.get("long2").dependsOn(contexts.get("long1")));
+        assertTrue(contexts.get("long2").dependsOn(contexts.get("start")));
+        assertTrue(contexts.get("short").dependsOn(contexts.get("start")));
+        assertFalse(contexts.get("start").dependsOn(contexts.get("long2")));
+        assertFalse(contexts.get("short").dependsOn(contexts.get("long1")));
+        assertFalse(contexts.get("long2").dependsOn(contexts.get("short")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(context -> context.produce(new StartItem())).produces(StartItem.class).build();
+        builder.addFinal(StartItem.class);
+        builder.build().createExecutionBuilder("my-app.jar").setParallelism(0);
+    }
+}
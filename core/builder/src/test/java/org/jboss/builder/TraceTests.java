@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.builder;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.builder.item.SimpleBuildItem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ */
+public class TraceTests {
+
+    public static final class DummyItem extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem2 extends SimpleBuildItem {
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testTrace() throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "first";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem.class);
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "second \"quoted\"";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        final BuildChain chain = builder.build();
+        final Path traceDirectory = folder.getRoot().toPath().resolve("trace");
+        chain.createExecutionBuilder("my-app.jar").setTraceDirectory(traceDirectory).execute();
+
+        final String trace = new String(Files.readAllBytes(traceDirectory.resolve(ExecutionTrace.TRACE_FILE)),
+                StandardCharsets.UTF_8);
+        assertTrue(trace, trace.startsWith("{\"traceEvents\":["));
+        assertTrue(trace, trace.contains("\"name\":\"first\",\"cat\":\"build-step\",\"ph\":\"X\""));
+        assertTrue(trace, trace.contains("\"name\":\"second \\\"quoted\\\"\""));
+
+        final List<String> criticalPath = Files.readAllLines(traceDirectory.resolve(ExecutionTrace.CRITICAL_PATH_FILE),
+                StandardCharsets.UTF_8);
+        assertTrue(criticalPath.get(0), criticalPath.get(0).startsWith("Critical path: 2 steps"));
+        assertTrue(criticalPath.get(3), criticalPath.get(3).contains("first"));
+        assertTrue(criticalPath.get(4), criticalPath.get(4).contains("second"));
+    }
+
+    @Test
+    public void testTraceEventWriter() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("nested").resolve("trace.json");
+        TraceEventWriter.write(file, Arrays.asList(
+                new TraceEventWriter.Event("cat", "a\tb", "main", 0, 2_000),
+                new TraceEventWriter.Event("cat", "c\\d", "worker \"1\"", 1_000, 3_000_000)));
+
+        final String trace = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(trace, trace.contains("\"tid\":1,\"args\":{\"name\":\"main\"}"));
+        assertTrue(trace, trace.contains("\"tid\":2,\"args\":{\"name\":\"worker \\\"1\\\"\"}"));
+        assertTrue(trace, trace.contains("{\"name\":\"a\\u0009b\",\"cat\":\"cat\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":1,\"ts\":0,\"dur\":2}"));
+        assertTrue(trace, trace.contains("{\"name\":\"c\\\\d\",\"cat\":\"cat\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":2,\"ts\":1,\"dur\":3000}"));
+    }
+}
@@ -17,6 +17,7 @@
 package io.quarkus.deployment;
 
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -46,6 +47,16 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    /**
+     * If set, a Chrome trace-event file and a critical path summary of the build steps are written to this directory.
+     */
+    private static final String BUILD_TRACE_DIR = System.getProperty("quarkus.debug.build-trace-dir");
+
+    /**
+     * The maximum number of build steps which may run concurrently, defaults to the number of available processors.
+     */
+    private static final Integer BUILD_PARALLELISM = Integer.getInteger("quarkus.builder.parallelism");
+
     private final ClassOutput output;
     private final ClassLoader classLoader;
     private final Path root;
@@ -106,6 +117,12 @@ public class QuarkusAugmentor {
             for (Path i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            if (BUILD_PARALLELISM != null) {
+                execBuilder.setParallelism(BUILD_PARALLELISM);
+            }
+            if (BUILD_TRACE_DIR != null) {
+                execBuilder.setTraceDirectory(Paths.get(BUILD_TRACE_DIR));
+            }
             BuildResult buildResult = execBuilder
                     .execute();
 
@@ -16,6 +16,7 @@
 
 package io.quarkus.deployment.builditem;
 
+import org.jboss.builder.BuildContext;
 import org.jboss.builder.item.MultiBuildItem;
 
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
@@ -23,13 +24,34 @@ import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
+    private final BuildContext buildContext;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, null);
+    }
+
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, BuildContext buildContext) {
         this.bytecodeRecorder = bytecodeRecorder;
+        this.buildContext = buildContext;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
         return bytecodeRecorder;
     }
 
+    /**
+     * Determine whether the recorded startup task must run after the task of the given item. This is the case if the
+     * build step which recorded this task depends on the build step which recorded the other one, or if either of the
+     * two steps is unknown.
+     *
+     * @param other the other item
+     * @return {@code true} if this task must not start before the other task has completed
+     */
+    public boolean dependsOn(MainBytecodeRecorderBuildItem other) {
+        if (buildContext == null || other.buildContext == null) {
+            return true;
+        }
+        return buildContext.dependsOn(other.buildContext);
+    }
+
 }
@@ -19,6 +19,7 @@ package io.quarkus.deployment.index;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -35,6 +36,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -44,6 +51,7 @@ import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
+import org.jboss.jandex.UnsupportedVersion;
 import org.jboss.logging.Logger;
 
 import io.quarkus.deployment.ApplicationArchive;
@@ -109,7 +117,7 @@ public class ApplicationArchiveBuildStep {
             dependenciesToIndex.add(i.getPath());
         }
 
-        return indexPaths(dependenciesToIndex, classLoader);
+        return indexPaths(dependenciesToIndex, dep -> indexPath(dep, classLoader));
     }
 
     public List<Path> getIndexDependencyPaths(ClassLoader classLoader) {
@@ -133,23 +141,106 @@ public class ApplicationArchiveBuildStep {
         }
     }
 
-    private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader)
+    /**
+     * Index the given paths in parallel. If indexing one of them fails, the tasks which did not start yet are skipped
+     * and the archives opened by the other tasks are closed before the failure is rethrown.
+     */
+    static List<ApplicationArchive> indexPaths(Collection<Path> dependenciesToIndex, ArchiveIndexer indexer)
             throws IOException {
-        List<ApplicationArchive> ret = new ArrayList<>();
-
-        for (final Path dep : dependenciesToIndex) {
-            LOGGER.debugf("Indexing dependency: %s", dep);
-            if (Files.isDirectory(dep)) {
-                IndexView indexView = handleFilePath(dep);
-                ret.add(new ApplicationArchiveImpl(indexView, dep, null));
-            } else {
-                IndexView index = handleJarPath(dep);
-                FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
-                ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs));
+        if (dependenciesToIndex.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final int parallelism = Math.min(dependenciesToIndex.size(), Runtime.getRuntime().availableProcessors());
+        final ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            final AtomicBoolean failed = new AtomicBoolean();
+            List<Future<ApplicationArchive>> futures = new ArrayList<>(dependenciesToIndex.size());
+            for (final Path dep : dependenciesToIndex) {
+                futures.add(pool.submit(() -> {
+                    if (failed.get()) {
+                        return null;
+                    }
+                    try {
+                        return indexer.index(dep);
+                    } catch (IOException | RuntimeException | Error e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }));
             }
+            List<ApplicationArchive> ret = new ArrayList<>(futures.size());
+            Throwable failure = null;
+            boolean interrupted = false;
+            // wait for all the tasks, even after a failure, so that no archive is left open
+            for (Future<ApplicationArchive> future : futures) {
+                for (;;) {
+                    try {
+                        final ApplicationArchive archive = future.get();
+                        if (archive != null) {
+                            ret.add(archive);
+                        }
+                        break;
+                    } catch (InterruptedException e) {
+                        failed.set(true);
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = e.getCause();
+                        } else {
+                            failure.addSuppressed(e.getCause());
+                        }
+                        break;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException e = new InterruptedIOException("Interrupted while indexing dependencies");
+                if (failure != null) {
+                    e.addSuppressed(failure);
+                }
+                failure = e;
+            }
+            if (failure == null) {
+                return ret;
+            }
+            for (ApplicationArchive archive : ret) {
+                try {
+                    archive.close();
+                } catch (IOException e) {
+                    failure.addSuppressed(e);
+                }
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new IllegalStateException(failure);
+        } finally {
+            pool.shutdown();
         }
+    }
 
-        return ret;
+    interface ArchiveIndexer {
+        ApplicationArchive index(Path path) throws IOException;
+    }
+
+    private static ApplicationArchive indexPath(Path dep, ClassLoader classLoader) throws IOException {
+        final long start = System.nanoTime();
+        final ApplicationArchive archive;
+        if (Files.isDirectory(dep)) {
+            IndexView indexView = handleFilePath(dep);
+            archive = new ApplicationArchiveImpl(indexView, dep, null);
+        } else {
+            IndexView index = handleJarPath(dep);
+            FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
+            archive = new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs);
+        }
+        LOGGER.debugf("Indexed dependency %s in %s ms", dep, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return archive;
     }
 
     private static Collection<? extends Path> getMarkerFilePaths(ClassLoader classLoader, Set<String> applicationArchiveFiles)
@@ -187,8 +278,10 @@ public class ApplicationArchiveBuildStep {
         Path existing = path.resolve(JANDEX_INDEX);
         if (Files.exists(existing)) {
             try (FileInputStream in = new FileInputStream(existing.toFile())) {
-                IndexReader r = new IndexReader(in);
-                return r.read();
+                Index index = readIndex(in, path);
+                if (index != null) {
+                    return index;
+                }
             }
         }
 
@@ -213,8 +306,20 @@ public class ApplicationArchiveBuildStep {
             ZipEntry existing = file.getEntry(JANDEX_INDEX);
             if (existing != null) {
                 try (InputStream in = file.getInputStream(existing)) {
-                    IndexReader r = new IndexReader(in);
-                    return r.read();
+                    Index index = readIndex(in, path);
+                    if (index != null) {
+                        return index;
+                    }
+                }
+            }
+
+            IndexCache cache = IndexCache.getInstance();
+            IndexCache.Key key = null;
+            if (cache != null) {
+                key = cache.key(path, file);
+                Index cached = cache.read(key);
+                if (cached != null) {
+                    return cached;
                 }
             }
 
@@ -227,7 +332,24 @@ public class ApplicationArchiveBuildStep {
                     }
                 }
             }
+            Index index = indexer.complete();
+            if (cache != null) {
+                cache.write(key, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Read a prebuilt index. An index written by an unsupported Jandex version is ignored and the archive is indexed
+     * instead.
+     */
+    private static Index readIndex(InputStream in, Path path) throws IOException {
+        try {
+            return new IndexReader(in).read();
+        } catch (UnsupportedVersion e) {
+            LOGGER.debugf("Ignoring the prebuilt index of %s: %s", path, e.getMessage());
+            return null;
         }
-        return indexer.complete();
     }
 }
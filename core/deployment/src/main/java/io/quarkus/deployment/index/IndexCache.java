@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * A persistent cache of the Jandex indexes of dependency jars, which usually do not change between builds.
+ * <p>
+ * There is a single entry per jar path, stored under {@code ~/.quarkus/index}. An entry records the size and the
+ * modification time of the jar and a digest of its central directory, followed by the index in the
+ * {@link IndexWriter} format. An entry which does not match the current jar is ignored and overwritten.
+ * <p>
+ * The cache is disabled by default, it is enabled by setting the {@value #PROP_INDEX_CACHE} system property to
+ * {@code true}.
+ */
+final class IndexCache {
+
+    static final String PROP_INDEX_CACHE = "quarkus-index-cache";
+
+    private static final Logger log = Logger.getLogger(IndexCache.class);
+
+    private static final String DOT_QUARKUS = ".quarkus";
+    private static final String INDEX = "index";
+    private static final String SUFFIX = ".idx";
+    private static final int MAGIC = 0x51494458; // QIDX
+
+    private static final IndexCache INSTANCE = Boolean.parseBoolean(System.getProperty(PROP_INDEX_CACHE, "false"))
+            ? new IndexCache(Paths.get(System.getProperty("user.home")).resolve(DOT_QUARKUS).resolve(INDEX))
+            : null;
+
+    private final Path directory;
+
+    IndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cache, or {@code null} if it is disabled
+     */
+    static IndexCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compute the key identifying the current content of the given jar.
+     *
+     * @param path the jar path
+     * @param jar the opened jar
+     * @return the key
+     * @throws IOException if the jar attributes could not be read
+     */
+    Key key(Path path, JarFile jar) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        final MessageDigest digest = newDigest();
+        final Enumeration<JarEntry> entries = jar.entries();
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        while (entries.hasMoreElements()) {
+            final JarEntry entry = entries.nextElement();
+            digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+            buffer.clear();
+            buffer.putLong(entry.getCrc()).putLong(entry.getSize());
+            digest.update(buffer.array());
+        }
+        return new Key(path.toAbsolutePath().normalize().toString(), attributes.size(),
+                attributes.lastModifiedTime().toMillis(), digest.digest());
+    }
+
+    /**
+     * Read the cached index of a jar.
+     *
+     * @param key the jar key
+     * @return the index, or {@code null} if there is no up to date entry
+     */
+    Index read(Key key) {
+        final Path file = entryFile(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        // the entry is not memory mapped, so that it can be replaced while an index read from it is still in use
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readLong() != key.size || in.readLong() != key.lastModified) {
+                return null;
+            }
+            final byte[] path = new byte[in.readInt()];
+            in.readFully(path);
+            final byte[] hash = new byte[in.readInt()];
+            in.readFully(hash);
+            if (!key.path.equals(new String(path, StandardCharsets.UTF_8)) || !Arrays.equals(key.hash, hash)) {
+                return null;
+            }
+            return new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            // EOFException, NegativeArraySizeException, IllegalArgumentException for unsupported versions
+            log.debugf(e, "Ignoring unreadable index cache entry %s", file);
+            return null;
+        }
+    }
+
+    /**
+     * Store the index of a jar, replacing the previous entry of the same jar.
+     *
+     * @param key the jar key
+     * @param index the index
+     */
+    void write(Key key, Index index) {
+        final Path file = entryFile(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                final DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(MAGIC);
+                data.writeLong(key.size);
+                data.writeLong(key.lastModified);
+                final byte[] path = key.path.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(path.length);
+                data.write(path);
+                data.writeInt(key.hash.length);
+                data.write(key.hash);
+                data.flush();
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write index cache entry %s", file);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path entryFile(Key key) {
+        final StringBuilder name = new StringBuilder();
+        for (byte b : newDigest().digest(key.path.getBytes(StandardCharsets.UTF_8))) {
+            name.append(String.format("%02x", b));
+        }
+        return directory.resolve(name.append(SUFFIX).toString());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class Key {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final byte[] hash;
+
+        Key(String path, long size, long lastModified, byte[] hash) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+    }
+}
@@ -68,6 +68,7 @@ import io.quarkus.runtime.ObjectSubstitution;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTimeline;
 
 /**
  * A class that can be used to record invocations to bytecode so they can be replayed later. This is done through the
@@ -96,9 +97,19 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private static final String BASE_PACKAGE = "io.quarkus.deployment.steps.";
 
     private static final String PROXY_KEY = "proxykey";
+    private static final String SHARED_KEY = "sharedkey";
+
+    /**
+     * The number of recorded calls and loaded objects after which a new method is started. This keeps the generated
+     * methods well below the size limit for JIT compilation.
+     */
+    private static final int MAX_INSTRUCTIONS_PER_METHOD = 300;
 
     private static final MethodDescriptor COLLECTION_ADD = ofMethod(Collection.class, "add", boolean.class, Object.class);
     private static final MethodDescriptor MAP_PUT = ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
+    private static final MethodDescriptor NANO_TIME = ofMethod(System.class, "nanoTime", long.class);
+    private static final MethodDescriptor TIMELINE_RECORD = ofMethod(StartupTimeline.class, "record", void.class,
+            String.class, String.class, long.class);
 
     private final boolean staticInit;
     private final ClassLoader classLoader;
@@ -112,6 +123,10 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
     private final List<ObjectLoader> loaders = new ArrayList<>();
     private final IdentityHashMap<Object, ResultHandle> loadedObjects = new IdentityHashMap<>();
+    private final IdentityHashMap<Object, SharedValue> sharedValues = new IdentityHashMap<>();
+    private final Map<Class<?>, SharedValue> sharedTemplates = new HashMap<>();
+    private int instructionCount;
+    private boolean timed;
 
     public BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className) {
         this.classLoader = classLoader;
@@ -267,25 +282,36 @@ public class BytecodeRecorderImpl implements RecorderContext {
         return className;
     }
 
+    /**
+     * Record the duration of each template invocation in the {@link StartupTimeline}.
+     *
+     * @param timed whether the template invocations are timed
+     */
+    public void setTimed(boolean timed) {
+        this.timed = timed;
+    }
+
     public void writeBytecode(ClassOutput classOutput) {
         ClassCreator file = ClassCreator.builder().classOutput(ClassOutput.gizmoAdaptor(classOutput, true)).className(className)
                 .superClass(Object.class).interfaces(StartupTask.class).build();
-        MethodCreator method = file.getMethodCreator("deploy", void.class, StartupContext.class);
-        //now create instances of all the classes we invoke on and store them in variables as well
-        Map<Class, ResultHandle> classInstanceVariables = new HashMap<>();
-        Map<Object, ResultHandle> returnValueResults = new IdentityHashMap<>();
-        for (BytecodeInstruction set : this.methodRecorder.storedMethodCalls) {
-            if (set instanceof StoredMethodCall) {
-                StoredMethodCall call = (StoredMethodCall) set;
-                if (classInstanceVariables.containsKey(call.theClass)) {
-                    continue;
-                }
-                ResultHandle instance = method.newInstance(MethodDescriptor.ofConstructor(call.theClass));
-                classInstanceVariables.put(call.theClass, instance);
-            }
-        }
-        //now we invoke the actual method call
+        MethodCreator mainMethod = file.getMethodCreator("deploy", void.class, StartupContext.class);
+        //the recorded calls are split into several methods, as the JIT will not compile huge methods
+        List<MethodCreator> methods = new ArrayList<>();
+        MethodCreator method = null;
+        Map<Class, ResultHandle> classInstanceVariables = null;
+        Map<Object, ResultHandle> returnValueResults = null;
         for (BytecodeInstruction set : methodRecorder.storedMethodCalls) {
+            if (method == null || instructionCount >= MAX_INSTRUCTIONS_PER_METHOD) {
+                method = file.getMethodCreator("deploy_" + methods.size(), void.class, StartupContext.class);
+                mainMethod.invokeVirtualMethod(method.getMethodDescriptor(), mainMethod.getThis(),
+                        mainMethod.getMethodParam(0));
+                methods.add(method);
+                classInstanceVariables = new HashMap<>();
+                returnValueResults = new IdentityHashMap<>();
+                loadedObjects.clear();
+                instructionCount = 0;
+            }
+            instructionCount++;
             if (set instanceof StoredMethodCall) {
                 StoredMethodCall call = (StoredMethodCall) set;
                 ResultHandle[] params = new ResultHandle[call.parameters.length];
@@ -298,9 +324,26 @@ public class BytecodeRecorderImpl implements RecorderContext {
                         params[i] = method.loadNull();
                     }
                 }
+                //the template instances are shared by all the methods
+                ResultHandle instance = classInstanceVariables.get(call.theClass);
+                if (instance == null) {
+                    SharedValue shared = sharedTemplates.get(call.theClass);
+                    if (shared == null) {
+                        instance = method.newInstance(MethodDescriptor.ofConstructor(call.theClass));
+                        sharedTemplates.put(call.theClass, new SharedValue(method, instance, call.theClass));
+                    } else {
+                        instance = shared.read(method);
+                    }
+                    classInstanceVariables.put(call.theClass, instance);
+                }
+                ResultHandle start = timed ? method.invokeStaticMethod(NANO_TIME) : null;
                 ResultHandle callResult = method.invokeVirtualMethod(ofMethod(call.method.getDeclaringClass(),
                         call.method.getName(), call.method.getReturnType(), call.method.getParameterTypes()),
-                        classInstanceVariables.get(call.theClass), params);
+                        instance, params);
+                if (timed) {
+                    method.invokeStaticMethod(TIMELINE_RECORD, method.load(StartupTimeline.TEMPLATE),
+                            method.load(call.theClass.getSimpleName() + "#" + call.method.getName()), start);
+                }
 
                 if (call.method.getReturnType() != void.class) {
                     if (call.returnedProxy != null) {
@@ -321,7 +364,23 @@ public class BytecodeRecorderImpl implements RecorderContext {
             }
         }
 
-        method.returnValue(null);
+        //values used by later methods are passed through the startup context, and removed after their last use
+        for (SharedValue shared : sharedValues.values()) {
+            shared.write();
+        }
+        for (SharedValue shared : sharedTemplates.values()) {
+            shared.write();
+        }
+        for (SharedValue shared : sharedValues.values()) {
+            shared.release();
+        }
+        for (SharedValue shared : sharedTemplates.values()) {
+            shared.release();
+        }
+        for (MethodCreator i : methods) {
+            i.returnValue(null);
+        }
+        mainMethod.returnValue(null);
         file.close();
     }
 
@@ -332,6 +391,13 @@ public class BytecodeRecorderImpl implements RecorderContext {
         if (existing != null) {
             return existing;
         }
+        instructionCount++;
+        SharedValue shared = param == null ? null : sharedValues.get(param);
+        if (shared != null) {
+            existing = shared.read(method);
+            returnValueResults.put(param, existing);
+            return existing;
+        }
         ResultHandle out;
         if (param == null) {
             out = method.loadNull();
@@ -642,9 +708,23 @@ public class BytecodeRecorderImpl implements RecorderContext {
             }
         }
         returnValueResults.put(param, out);
+        if (!isRecreatable(param)) {
+            sharedValues.put(param, new SharedValue(method, out, param.getClass()));
+        }
         return out;
     }
 
+    /**
+     * @return {@code true} if the given value does not need to be shared between the generated methods, as an equal
+     *         value can be cheaply created again
+     */
+    private static boolean isRecreatable(Object param) {
+        return param == null || param instanceof String || param instanceof Integer || param instanceof Long
+                || param instanceof Short || param instanceof Byte || param instanceof Float || param instanceof Double
+                || param instanceof Boolean || param instanceof Character || param instanceof Enum
+                || param instanceof Class || param instanceof URL || param instanceof ReturnedProxy;
+    }
+
     private boolean findLoaded(final BytecodeCreator body, final Object param) {
         if (loadedObjects.containsKey(param)) {
             return true;
@@ -659,6 +739,81 @@ public class BytecodeRecorderImpl implements RecorderContext {
         return false;
     }
 
+    /**
+     * A value created by one of the generated methods which is also used by later methods. The creating method stores
+     * the value in the startup context once it is done, the later methods read it from there, and the last of them
+     * removes it.
+     */
+    static final class SharedValue {
+        final MethodCreator owner;
+        final ResultHandle handle;
+        /**
+         * The most specific type of the value which the generated class can reference.
+         */
+        final Class<?> type;
+        String key;
+        MethodCreator lastReader;
+
+        SharedValue(MethodCreator owner, ResultHandle handle, Class<?> runtimeType) {
+            this.owner = owner;
+            this.handle = handle;
+            this.type = accessibleType(runtimeType);
+        }
+
+        ResultHandle read(MethodCreator method) {
+            if (key == null) {
+                key = SHARED_KEY + COUNT.incrementAndGet();
+            }
+            lastReader = method;
+            ResultHandle value = method.invokeVirtualMethod(
+                    ofMethod(StartupContext.class, "getValue", Object.class, String.class),
+                    method.getMethodParam(0), method.load(key));
+            // the handle is cached for the rest of the method, so it is cast to the runtime type rather than to the
+            // type expected by its first use
+            if (type != Object.class) {
+                value = method.checkCast(value, type);
+            }
+            return value;
+        }
+
+        void write() {
+            if (key != null) {
+                owner.invokeVirtualMethod(ofMethod(StartupContext.class, "putValue", void.class, String.class, Object.class),
+                        owner.getMethodParam(0), owner.load(key), handle);
+            }
+        }
+
+        void release() {
+            if (key != null) {
+                lastReader.invokeVirtualMethod(
+                        ofMethod(StartupContext.class, "putValue", void.class, String.class, Object.class),
+                        lastReader.getMethodParam(0), lastReader.load(key), lastReader.loadNull());
+            }
+        }
+
+        private static Class<?> accessibleType(Class<?> type) {
+            if (type.isArray()) {
+                final Class<?> componentType = accessibleType(type.getComponentType());
+                return componentType == type.getComponentType() ? type
+                        : Array.newInstance(componentType, 0).getClass();
+            }
+            Class<?> current = type;
+            while (!current.isPrimitive() && !isAccessible(current)) {
+                current = current.getSuperclass();
+            }
+            return current;
+        }
+
+        private static boolean isAccessible(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getDeclaringClass()) {
+                if (!Modifier.isPublic(current.getModifiers())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     interface BytecodeInstruction {
 
     }
@@ -20,6 +20,7 @@ import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -54,7 +55,13 @@ import io.quarkus.gizmo.TryBlock;
 import io.quarkus.runtime.Application;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskRunner;
+import io.quarkus.runtime.StartupTimeline;
 import io.quarkus.runtime.Timing;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.ConfigSnapshot;
 
 class MainClassBuildStep {
 
@@ -64,8 +71,47 @@ class MainClassBuildStep {
     private static final String JAVA_LIBRARY_PATH = "java.library.path";
     private static final String JAVAX_NET_SSL_TRUST_STORE = "javax.net.ssl.trustStore";
 
+    private static final MethodDescriptor NANO_TIME = ofMethod(System.class, "nanoTime", long.class);
+    private static final MethodDescriptor TIMELINE_RECORD = ofMethod(StartupTimeline.class, "record", void.class,
+            String.class, String.class, long.class);
+
     private static final AtomicInteger COUNT = new AtomicInteger();
 
+    StartupConfig startup;
+
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class StartupConfig {
+        /**
+         * Run the startup tasks recorded by independent build steps concurrently. Tasks recorded by a build step always
+         * run after the tasks recorded by the build steps it depends on. This requires the templates of all the
+         * extensions to be safe to invoke from multiple threads.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean parallel;
+
+        /**
+         * Record the duration of the startup phases, of each startup task and of each template invocation. The
+         * timeline is logged once the application has started, written to the timeline file, and exposed as vendor
+         * metrics if the SmallRye Metrics extension is present. Nothing is recorded when this is disabled.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean timeline;
+
+        /**
+         * The file the startup timeline is written to, in the Chrome trace-event format.
+         */
+        @ConfigItem(defaultValue = "startup-timeline.json")
+        String timelineFile;
+
+        /**
+         * Replace the runtime configuration with an immutable snapshot once the application has started, so that the
+         * properties looked up afterwards are neither expanded nor converted again. System properties and the
+         * properties of a {@link io.quarkus.runtime.configuration.DynamicConfigSource} are still read from their source.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean configSnapshot;
+    }
+
     @BuildStep
     MainClassBuildItem build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
             List<ObjectSubstitutionBuildItem> substitutions,
@@ -100,6 +146,7 @@ class MainClassBuildStep {
         }
 
         mv.invokeStaticMethod(MethodDescriptor.ofMethod(Timing.class, "staticInitStarted", void.class));
+        ResultHandle staticInitStart = startup.timeline ? mv.invokeStaticMethod(NANO_TIME) : null;
         ResultHandle startupContext = mv.newInstance(ofConstructor(StartupContext.class));
         mv.writeStaticField(scField.getFieldDescriptor(), startupContext);
         TryBlock tryBlock = mv.tryBlock();
@@ -114,13 +161,18 @@ class MainClassBuildStep {
                 for (BytecodeRecorderObjectLoaderBuildItem item : loaders) {
                     recorder.registerObjectLoader(item.getObjectLoader());
                 }
+                recorder.setTimed(startup.timeline);
                 recorder.writeBytecode(classOutput.getClassOutput());
 
-                ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
+                ResultHandle dup = newStartupTask(tryBlock, recorder, StartupTimeline.STATIC_INIT_TASK);
                 tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
                         startupContext);
             }
         }
+        if (startup.timeline) {
+            tryBlock.invokeStaticMethod(TIMELINE_RECORD, tryBlock.load(StartupTimeline.PHASE),
+                    tryBlock.load(StartupTimeline.STATIC_INIT_TASK), staticInitStart);
+        }
         tryBlock.returnValue(null);
 
         CatchBlockCreator cb = tryBlock.addCatch(Throwable.class);
@@ -185,13 +237,23 @@ class MainClassBuildStep {
         }
 
         mv.invokeStaticMethod(ofMethod(Timing.class, "mainStarted", void.class));
+        if (startup.timeline) {
+            mv.invokeStaticMethod(ofMethod(StartupTimeline.class, "mainStarted", void.class));
+        }
         startupContext = mv.readStaticField(scField.getFieldDescriptor());
 
         tryBlock = mv.tryBlock();
 
         // Load the run time configuration
+        ResultHandle configStart = startup.timeline ? tryBlock.invokeStaticMethod(NANO_TIME) : null;
         tryBlock.invokeStaticMethod(ConfigurationSetup.CREATE_RUN_TIME_CONFIG);
+        if (startup.timeline) {
+            tryBlock.invokeStaticMethod(TIMELINE_RECORD, tryBlock.load(StartupTimeline.PHASE),
+                    tryBlock.load("runtime-config"), configStart);
+        }
+        ResultHandle runtimeInitStart = startup.timeline ? tryBlock.invokeStaticMethod(NANO_TIME) : null;
 
+        List<MainBytecodeRecorderBuildItem> mainTasks = new ArrayList<>();
         for (MainBytecodeRecorderBuildItem holder : mainMethod) {
             final BytecodeRecorderImpl recorder = holder.getBytecodeRecorder();
             if (!recorder.isEmpty()) {
@@ -203,12 +265,44 @@ class MainClassBuildStep {
                 for (BytecodeRecorderObjectLoaderBuildItem item : loaders) {
                     recorder.registerObjectLoader(item.getObjectLoader());
                 }
+                recorder.setTimed(startup.timeline);
                 recorder.writeBytecode(classOutput.getClassOutput());
-                ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
+                mainTasks.add(holder);
+            }
+        }
+        if (startup.parallel) {
+            // the items are produced in an order consistent with the dependencies between the steps recording them
+            ResultHandle runner = tryBlock.newInstance(ofConstructor(StartupTaskRunner.class));
+            for (int i = 0; i < mainTasks.size(); i++) {
+                final MainBytecodeRecorderBuildItem holder = mainTasks.get(i);
+                ResultHandle task = newStartupTask(tryBlock, holder.getBytecodeRecorder(),
+                        StartupTimeline.RUNTIME_INIT_TASK);
+                tryBlock.invokeVirtualMethod(ofMethod(StartupTaskRunner.class, "addTask", void.class, StartupTask.class),
+                        runner, task);
+                for (int j = 0; j < i; j++) {
+                    if (holder.dependsOn(mainTasks.get(j))) {
+                        tryBlock.invokeVirtualMethod(
+                                ofMethod(StartupTaskRunner.class, "addDependency", void.class, int.class, int.class),
+                                runner, tryBlock.load(i), tryBlock.load(j));
+                    }
+                }
+            }
+            tryBlock.invokeVirtualMethod(ofMethod(StartupTaskRunner.class, "run", void.class, StartupContext.class), runner,
+                    startupContext);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainTasks) {
+                ResultHandle dup = newStartupTask(tryBlock, holder.getBytecodeRecorder(), StartupTimeline.RUNTIME_INIT_TASK);
                 tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
                         startupContext);
             }
         }
+        if (startup.timeline) {
+            tryBlock.invokeStaticMethod(TIMELINE_RECORD, tryBlock.load(StartupTimeline.PHASE),
+                    tryBlock.load(StartupTimeline.RUNTIME_INIT_TASK), runtimeInitStart);
+        }
+        if (startup.configSnapshot) {
+            tryBlock.invokeStaticMethod(ofMethod(ConfigSnapshot.class, "install", void.class));
+        }
 
         // Startup log messages
         ResultHandle featuresHandle = tryBlock.load(features.stream()
@@ -218,6 +312,10 @@ class MainClassBuildStep {
         tryBlock.invokeStaticMethod(
                 ofMethod(Timing.class, "printStartupTime", void.class, String.class, String.class),
                 tryBlock.load(Version.getVersion()), featuresHandle);
+        if (startup.timeline) {
+            tryBlock.invokeStaticMethod(ofMethod(StartupTimeline.class, "startupCompleted", void.class, String.class),
+                    tryBlock.load(startup.timelineFile));
+        }
 
         cb = tryBlock.addCatch(Throwable.class);
         cb.invokeVirtualMethod(ofMethod(Throwable.class, "printStackTrace", void.class), cb.getCaughtException());
@@ -255,4 +353,17 @@ class MainClassBuildStep {
         return new MainClassBuildItem(MAIN_CLASS);
     }
 
+    /**
+     * Create an instance of the startup task generated by the given recorder, wrapped so that its execution is
+     * recorded if the startup timeline is enabled.
+     */
+    private ResultHandle newStartupTask(BytecodeCreator creator, BytecodeRecorderImpl recorder, String category) {
+        ResultHandle task = creator.newInstance(ofConstructor(recorder.getClassName()));
+        if (startup.timeline) {
+            String name = recorder.getClassName().substring(recorder.getClassName().lastIndexOf('.') + 1);
+            task = creator.invokeStaticMethod(ofMethod(StartupTimeline.class, "timed", StartupTask.class, String.class,
+                    String.class, StartupTask.class), creator.load(category), creator.load(name), task);
+        }
+        return task;
+    }
 }
@@ -34,12 +34,16 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 import org.jboss.logging.Logger;
@@ -64,6 +68,17 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
     private final Path applicationClasses;
     private final Path frameworkClassesPath;
     private final Path transformerCache;
+    private final boolean transformAheadOfTime;
+
+    /**
+     * The pack holding the classes which were transformed ahead of time, released once they are all defined.
+     */
+    private volatile TransformedClassPack transformedClassPack = TransformedClassPack.EMPTY;
+
+    /**
+     * The names of the classes in {@link #transformedClassPack} which were not defined yet.
+     */
+    private final Set<String> transformedClasses = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     private static final String DEBUG_CLASSES_DIR = System.getProperty("quarkus.debug.generated-classes-dir");
 
@@ -74,10 +89,21 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
     }
 
     public RuntimeClassLoader(ClassLoader parent, Path applicationClasses, Path frameworkClassesPath, Path transformerCache) {
+        this(parent, applicationClasses, frameworkClassesPath, transformerCache, false);
+    }
+
+    /**
+     * @param transformAheadOfTime whether all the classes to transform are transformed in parallel as soon as the
+     *        transformers are set, instead of on the class loading thread. The transformed classes are then cached in a
+     *        single pack file in the transformer cache directory, so this requires a transformer cache.
+     */
+    public RuntimeClassLoader(ClassLoader parent, Path applicationClasses, Path frameworkClassesPath, Path transformerCache,
+            boolean transformAheadOfTime) {
         super(parent);
         this.applicationClasses = applicationClasses;
         this.frameworkClassesPath = frameworkClassesPath;
         this.transformerCache = transformerCache;
+        this.transformAheadOfTime = transformAheadOfTime;
     }
 
     @Override
@@ -177,18 +203,15 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
                 }
             }
             try {
-                byte[] buf = new byte[1024];
-                int r;
-                ByteArrayOutputStream out = new ByteArrayOutputStream();
-                try (FileInputStream in = new FileInputStream(classLoc.toFile())) {
-                    while ((r = in.read(buf)) > 0) {
-                        out.write(buf, 0, r);
+                byte[] bytes = transformedClasses.remove(name) ? readTransformedClass(name) : null;
+                if (bytes == null) {
+                    try {
+                        bytes = readFileContent(classLoc);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException("Failed to load class", e);
                     }
-                } catch (IOException e) {
-                    throw new ClassNotFoundException("Failed to load class", e);
+                    bytes = handleTransform(name, bytes);
                 }
-                byte[] bytes = out.toByteArray();
-                bytes = handleTransform(name, bytes);
                 Class<?> clazz = defineClass(name, bytes, 0, bytes.length);
                 res.complete(clazz);
                 return clazz;
@@ -228,14 +251,7 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             }
         }
 
-        ClassReader cr = new ClassReader(bytes);
-        ClassWriter writer = new QuarkusClassWriter(cr, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-        ClassVisitor visitor = writer;
-        for (BiFunction<String, ClassVisitor, ClassVisitor> i : transformers) {
-            visitor = i.apply(name, visitor);
-        }
-        cr.accept(visitor, 0);
-        byte[] data = writer.toByteArray();
+        byte[] data = transform(name, bytes, transformers);
         if (hashPath != null) {
             try {
 
@@ -251,6 +267,17 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
         return data;
     }
 
+    private static byte[] transform(String name, byte[] bytes, List<BiFunction<String, ClassVisitor, ClassVisitor>> transformers) {
+        ClassReader cr = new ClassReader(bytes);
+        ClassWriter writer = new QuarkusClassWriter(cr, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        ClassVisitor visitor = writer;
+        for (BiFunction<String, ClassVisitor, ClassVisitor> i : transformers) {
+            visitor = i.apply(name, visitor);
+        }
+        cr.accept(visitor, 0);
+        return writer.toByteArray();
+    }
+
     @Override
     protected Class<?> findClass(String name) throws ClassNotFoundException {
         Class<?> existing = findLoadedClass(name);
@@ -334,6 +361,88 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
 
     public void setTransformers(Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> functions) {
         this.bytecodeTransformers = functions;
+        if (transformAheadOfTime && transformerCache != null && functions != null && !functions.isEmpty()) {
+            transformAheadOfTime(functions);
+        }
+    }
+
+    private void transformAheadOfTime(Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> functions) {
+        final long start = System.nanoTime();
+        final Path packFile = transformerCache.resolve(TransformedClassPack.FILE_NAME);
+        TransformedClassPack pack = TransformedClassPack.open(packFile);
+        final Map<String, byte[]> digests = new ConcurrentHashMap<>();
+        // only the classes which are not in the pack yet, they are dropped once the pack is written
+        final Map<String, byte[]> transformed = new ConcurrentHashMap<>();
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            final List<Future<?>> futures = new ArrayList<>(functions.size());
+            final TransformedClassPack existing = pack;
+            for (Map.Entry<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> entry : functions.entrySet()) {
+                final String name = entry.getKey();
+                final Path classLoc = applicationClasses.resolve(name.replace('.', '/') + ".class");
+                if (!Files.exists(classLoc)) {
+                    // not an application class, so it is never transformed
+                    continue;
+                }
+                futures.add(pool.submit(() -> {
+                    try {
+                        final byte[] bytes = readFileContent(classLoc);
+                        final byte[] digest = MessageDigest.getInstance("MD5").digest(bytes);
+                        if (!existing.contains(name, digest)) {
+                            transformed.put(name, transform(name, bytes, entry.getValue()));
+                        }
+                        digests.put(name, digest);
+                    } catch (Exception e) {
+                        // the class is transformed again when it is loaded, which reports the failure
+                        log.debugf(e, "Unable to transform %s ahead of time", name);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (!transformed.isEmpty() || pack.size() != digests.size()) {
+            final Map<String, byte[]> classes = new HashMap<>(transformed);
+            for (String name : digests.keySet()) {
+                if (!classes.containsKey(name)) {
+                    classes.put(name, pack.get(name));
+                }
+            }
+            try {
+                TransformedClassPack.write(packFile, classes, digests);
+                pack = TransformedClassPack.open(packFile);
+            } catch (IOException e) {
+                // the classes which are not in the existing pack are transformed when they are loaded
+                log.error("Unable to write transformed classes to cache", e);
+            }
+        }
+        for (Map.Entry<String, byte[]> entry : digests.entrySet()) {
+            if (pack.contains(entry.getKey(), entry.getValue())) {
+                transformedClasses.add(entry.getKey());
+            }
+        }
+        transformedClassPack = pack;
+        log.debugf("Transformed %d classes ahead of time (%d from cache) in %s ms", digests.size(),
+                digests.size() - transformed.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private byte[] readTransformedClass(String name) {
+        final byte[] bytes = transformedClassPack.get(name);
+        if (transformedClasses.isEmpty()) {
+            // all the classes were defined, release the pack
+            transformedClassPack = TransformedClassPack.EMPTY;
+        }
+        return bytes;
     }
 
     @Override
@@ -60,7 +60,7 @@ public class RuntimeRunner implements Runnable, Closeable {
         this.launchMode = builder.launchMode;
         if (builder.classOutput == null) {
             RuntimeClassLoader runtimeClassLoader = new RuntimeClassLoader(builder.classLoader, target,
-                    builder.frameworkClassesPath, builder.transformerCache);
+                    builder.frameworkClassesPath, builder.transformerCache, builder.transformAheadOfTime);
             this.loader = runtimeClassLoader;
             this.classOutput = runtimeClassLoader;
             this.transformerTarget = runtimeClassLoader;
@@ -144,6 +144,7 @@ public class RuntimeRunner implements Runnable, Closeable {
         private Path target;
         private Path frameworkClassesPath;
         private Path transformerCache;
+        private boolean transformAheadOfTime;
         private LaunchMode launchMode = LaunchMode.NORMAL;
         private final List<Path> additionalArchives = new ArrayList<>();
         private final List<Consumer<BuildChainBuilder>> chainCustomizers = new ArrayList<>();
@@ -170,6 +171,15 @@ public class RuntimeRunner implements Runnable, Closeable {
             return this;
         }
 
+        /**
+         * Transform all the classes with bytecode transformers in parallel right after the augmentation, instead of
+         * when they are loaded. Only used if no class output is set.
+         */
+        public Builder setTransformAheadOfTime(boolean transformAheadOfTime) {
+            this.transformAheadOfTime = transformAheadOfTime;
+            return this;
+        }
+
         public Builder addAdditionalArchive(Path additionalArchive) {
             this.additionalArchives.add(additionalArchive);
             return this;
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A single file holding the transformed bytecode of many classes.
+ * <p>
+ * The file starts with an index of all the classes, each entry holding the class name, the digest of the original
+ * bytecode, and the position and length of the transformed bytecode in the data section which follows the index.
+ * The file is read in one go and closed when the pack is opened, rather than memory-mapped, so that it can be replaced
+ * while a class loader still reads classes from a previous version of it, which fails on Windows if the file is still
+ * mapped. Only the index is parsed upfront, the bytecode of a class is copied out of the data section when the class is
+ * defined.
+ */
+final class TransformedClassPack {
+
+    static final String FILE_NAME = "transformed-classes.pack";
+
+    private static final Logger log = Logger.getLogger(TransformedClassPack.class);
+
+    private static final int MAGIC = 0x51544350; // QTCP
+
+    static final TransformedClassPack EMPTY = new TransformedClassPack(null, Collections.emptyMap());
+
+    private final ByteBuffer data;
+    private final Map<String, Entry> entries;
+
+    private TransformedClassPack(ByteBuffer data, Map<String, Entry> entries) {
+        this.data = data;
+        this.entries = entries;
+    }
+
+    /**
+     * Open a pack file.
+     *
+     * @param file the pack file, may be {@code null}
+     * @return the pack, which is empty if the file does not exist or cannot be read
+     */
+    static TransformedClassPack open(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            return EMPTY;
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC) {
+                return EMPTY;
+            }
+            final int count = buffer.getInt();
+            final Map<String, Entry> entries = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                final byte[] name = new byte[buffer.getShort() & 0xffff];
+                buffer.get(name);
+                final byte[] digest = new byte[buffer.get() & 0xff];
+                buffer.get(digest);
+                entries.put(new String(name, StandardCharsets.UTF_8), new Entry(digest, buffer.getInt(), buffer.getInt()));
+            }
+            final ByteBuffer data = buffer.slice();
+            for (Entry entry : entries.values()) {
+                if (entry.offset < 0 || entry.length < 0 || entry.offset > data.limit() - entry.length) {
+                    return EMPTY;
+                }
+            }
+            return new TransformedClassPack(data, entries);
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Ignoring unreadable transformed class pack %s", file);
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Check whether the pack holds the transformed bytecode of the given version of a class.
+     *
+     * @param className the class name
+     * @param digest the digest of the original bytecode
+     * @return {@code true} if the pack has an entry for this version of the class
+     */
+    boolean contains(String className, byte[] digest) {
+        final Entry entry = entries.get(className);
+        return entry != null && Arrays.equals(entry.digest, digest);
+    }
+
+    /**
+     * Get the transformed bytecode of a class.
+     *
+     * @param className the class name
+     * @return the transformed bytecode, or {@code null} if the pack has no entry for the class
+     */
+    byte[] get(String className) {
+        final Entry entry = entries.get(className);
+        if (entry == null) {
+            return null;
+        }
+        final byte[] bytes = new byte[entry.length];
+        final ByteBuffer slice = data.duplicate();
+        slice.position(entry.offset);
+        slice.get(bytes);
+        return bytes;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Write a pack file, replacing the existing one.
+     *
+     * @param file the pack file
+     * @param classes the transformed classes, keyed by class name
+     * @param digests the digests of the original bytecode, keyed by class name
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path file, Map<String, byte[]> classes, Map<String, byte[]> digests) throws IOException {
+        Files.createDirectories(file.getParent());
+        final Path tmp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(classes.size());
+                int offset = 0;
+                for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                    final byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    final byte[] digest = digests.get(entry.getKey());
+                    out.writeShort(name.length);
+                    out.write(name);
+                    out.writeByte(digest.length);
+                    out.write(digest);
+                    out.writeInt(offset);
+                    out.writeInt(entry.getValue().length);
+                    offset += entry.getValue().length;
+                }
+                for (byte[] bytes : classes.values()) {
+                    out.write(bytes);
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static final class Entry {
+        final byte[] digest;
+        final int offset;
+        final int length;
+
+        Entry(byte[] digest, int offset, int length) {
+            this.digest = digest;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.deployment.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IndexCacheTestCase {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testMissAndHit() throws Exception {
+        final IndexCache cache = new IndexCache(tmp.newFolder().toPath());
+        final Path jar = jar(IndexCacheTestCase.class);
+        final IndexCache.Key key = key(cache, jar);
+        assertNull(cache.read(key));
+        cache.write(key, index(IndexCacheTestCase.class));
+        final Index cached = cache.read(key(cache, jar));
+        assertNotNull(cached);
+        assertNotNull(cached.getClassByName(DotName.createSimple(IndexCacheTestCase.class.getName())));
+    }
+
+    @Test
+    public void testModifiedJarIsInvalidated() throws Exception {
+        final IndexCache cache = new IndexCache(tmp.newFolder().toPath());
+        final Path jar = jar(IndexCacheTestCase.class);
+        cache.write(key(cache, jar), index(IndexCacheTestCase.class));
+        // same modification time, different content
+        final FileTime lastModified = Files.getLastModifiedTime(jar);
+        write(jar, IndexCache.class);
+        Files.setLastModifiedTime(jar, lastModified);
+        final IndexCache.Key key = key(cache, jar);
+        assertNull(cache.read(key));
+        // the entry is replaced
+        cache.write(key, index(IndexCache.class));
+        final Index cached = cache.read(key);
+        assertNotNull(cached);
+        assertEquals(1, cached.getKnownClasses().size());
+        assertNotNull(cached.getClassByName(DotName.createSimple(IndexCache.class.getName())));
+    }
+
+    @Test
+    public void testEntryReplacedAfterRead() throws Exception {
+        final IndexCache cache = new IndexCache(tmp.newFolder().toPath());
+        final Path jar = jar(IndexCacheTestCase.class);
+        final IndexCache.Key key = key(cache, jar);
+        cache.write(key, index(IndexCacheTestCase.class));
+        final Index first = cache.read(key);
+        assertNotNull(first);
+        // the entry must not be held open by the previous read
+        cache.write(key, index(IndexCacheTestCase.class));
+        assertNotNull(cache.read(key));
+        assertNotNull(first.getClassByName(DotName.createSimple(IndexCacheTestCase.class.getName())));
+    }
+
+    @Test
+    public void testCorruptedEntryIsIgnored() throws Exception {
+        final Path directory = tmp.newFolder().toPath();
+        final IndexCache cache = new IndexCache(directory);
+        final Path jar = jar(IndexCacheTestCase.class);
+        final IndexCache.Key key = key(cache, jar);
+        cache.write(key, index(IndexCacheTestCase.class));
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                final byte[] bytes = Files.readAllBytes(entry);
+                Files.write(entry, Arrays.copyOf(bytes, bytes.length / 2));
+            }
+        }
+        assertNull(cache.read(key));
+    }
+
+    private Path jar(Class<?> clazz) throws IOException {
+        final Path jar = tmp.newFile().toPath();
+        write(jar, clazz);
+        return jar;
+    }
+
+    private static void write(Path jar, Class<?> clazz) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry(classFile(clazz)));
+            try (InputStream in = clazz.getClassLoader().getResourceAsStream(classFile(clazz))) {
+                copy(in, out);
+            }
+            out.closeEntry();
+        }
+    }
+
+    private static IndexCache.Key key(IndexCache cache, Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return cache.key(jar, file);
+        }
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        final Indexer indexer = new Indexer();
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(classFile(clazz))) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+
+    private static String classFile(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+}
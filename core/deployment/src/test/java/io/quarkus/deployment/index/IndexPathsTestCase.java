@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.deployment.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Indexer;
+import org.junit.Test;
+
+import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.ApplicationArchiveImpl;
+
+public class IndexPathsTestCase {
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    public void testIndexPaths() throws Exception {
+        final List<ApplicationArchive> archives = ApplicationArchiveBuildStep.indexPaths(paths(16), this::open);
+        assertEquals(16, archives.size());
+        assertEquals(16, opened.get());
+        assertEquals(0, closed.get());
+    }
+
+    @Test
+    public void testFailureClosesOpenedArchives() throws Exception {
+        final List<Path> paths = paths(16);
+        paths.add(4, Paths.get("broken"));
+        try {
+            ApplicationArchiveBuildStep.indexPaths(paths, path -> {
+                if (path.toString().equals("broken")) {
+                    throw new IOException("broken archive");
+                }
+                return open(path);
+            });
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertEquals("broken archive", e.getMessage());
+        }
+        // all the tasks completed before the failure was rethrown
+        assertEquals(opened.get(), closed.get());
+    }
+
+    private ApplicationArchive open(Path path) throws IOException {
+        try {
+            // let the other tasks fail while this one is running
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        opened.incrementAndGet();
+        return new ApplicationArchiveImpl(new Indexer().complete(), path, closed::incrementAndGet);
+    }
+
+    private static List<Path> paths(int count) {
+        final List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            paths.add(Paths.get("archive" + i));
+        }
+        return paths;
+    }
+}
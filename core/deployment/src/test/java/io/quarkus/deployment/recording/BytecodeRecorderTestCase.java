@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.junit.Assert;
@@ -32,6 +34,7 @@ import io.quarkus.gizmo.TestClassLoader;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskRunner;
 
 public class BytecodeRecorderTestCase {
 
@@ -110,6 +113,28 @@ public class BytecodeRecorderTestCase {
         }, new TestJavaBean(null, 2));
     }
 
+    @Test
+    public void testManyCalls() throws Exception {
+        // enough calls to split the recorded bytecode into several methods, which share the objects
+        final TestJavaBean bean = new TestJavaBean("A string", 99);
+        final TestJavaBean[] beans = { bean };
+        final List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(bean);
+            expected.add(bean);
+            expected.add(beans);
+        }
+        runTest(recorder -> {
+            TestTemplate template = recorder.getRecordingProxy(TestTemplate.class);
+            for (int i = 0; i < 1000; i++) {
+                // the first use of the shared object in each method does not expect its actual type
+                template.object(bean);
+                template.bean(bean);
+                template.beans(beans);
+            }
+        }, expected.toArray());
+    }
+
     void runTest(Consumer<BytecodeRecorderImpl> generator, Object... expected) throws Exception {
         TestTemplate.RESULT.clear();
         TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
@@ -118,7 +143,12 @@ public class BytecodeRecorderTestCase {
         recorder.writeBytecode(new TestClassOutput(tcl));
 
         StartupTask task = (StartupTask) tcl.loadClass(TEST_CLASS).newInstance();
-        task.deploy(new StartupContext());
+        StartupTaskRunner runner = new StartupTaskRunner();
+        runner.addTask(task);
+        TrackingStartupContext context = new TrackingStartupContext();
+        runner.run(context);
+        Assert.assertEquals("Values shared between the generated methods were not removed", Collections.emptySet(),
+                context.keys);
         Assert.assertEquals(expected.length, TestTemplate.RESULT.size());
         for (Object i : expected) {
             if (i.getClass().isArray()) {
@@ -126,6 +156,8 @@ public class BytecodeRecorderTestCase {
                     Assert.assertArrayEquals((int[]) i, (int[]) TestTemplate.RESULT.poll());
                 } else if (i instanceof double[]) {
                     Assert.assertArrayEquals((double[]) i, (double[]) TestTemplate.RESULT.poll(), 0);
+                } else if (i instanceof Object[]) {
+                    Assert.assertArrayEquals((Object[]) i, (Object[]) TestTemplate.RESULT.poll());
                 } else {
                     throw new RuntimeException("not implemented");
                 }
@@ -135,6 +167,26 @@ public class BytecodeRecorderTestCase {
         }
     }
 
+    /**
+     * Tracks the values shared between the generated methods.
+     */
+    private static class TrackingStartupContext extends StartupContext {
+        final Set<String> keys = Collections.synchronizedSet(new HashSet<>());
+
+        @Override
+        public void putValue(String name, Object value) {
+            super.putValue(name, value);
+            if (!name.startsWith("sharedkey")) {
+                return;
+            }
+            if (value == null) {
+                keys.remove(name);
+            } else {
+                keys.add(name);
+            }
+        }
+    }
+
     private static class TestClassOutput implements ClassOutput {
         private final TestClassLoader tcl;
 
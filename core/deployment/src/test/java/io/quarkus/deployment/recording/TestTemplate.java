@@ -77,6 +77,14 @@ public class TestTemplate {
         RESULT.add(bean);
     }
 
+    public void beans(TestJavaBean[] beans) {
+        RESULT.add(beans);
+    }
+
+    public void object(Object object) {
+        RESULT.add(object);
+    }
+
     public void add(RuntimeValue<TestJavaBean> bean) {
         bean.getValue().setIval(bean.getValue().getIval() + 1);
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+public class RuntimeClassLoaderTestCase {
+
+    public static class Bean {
+    }
+
+    private static final String BEAN = Bean.class.getName();
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private final AtomicInteger transformations = new AtomicInteger();
+
+    private Path applicationClasses;
+    private Path frameworkClasses;
+    private Path transformerCache;
+
+    @Before
+    public void setUp() throws IOException {
+        applicationClasses = tmp.newFolder().toPath();
+        frameworkClasses = tmp.newFolder().toPath();
+        transformerCache = tmp.newFolder().toPath();
+        final Path classFile = applicationClasses.resolve(BEAN.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(BEAN.replace('.', '/') + ".class")) {
+            Files.copy(in, classFile);
+        }
+    }
+
+    @Test
+    public void testTransformAheadOfTime() throws Exception {
+        final Class<?> bean = load();
+        assertNotNull(bean.getField("transformed"));
+        assertEquals(1, transformations.get());
+        assertTrue(Files.exists(transformerCache.resolve(TransformedClassPack.FILE_NAME)));
+    }
+
+    @Test
+    public void testTransformedClassReadFromPack() throws Exception {
+        load();
+        final Class<?> bean = load();
+        assertNotNull(bean.getField("transformed"));
+        // the class was not transformed again
+        assertEquals(1, transformations.get());
+    }
+
+    @Test
+    public void testChangedClassTransformedAgain() throws Exception {
+        load();
+        final Path classFile = applicationClasses.resolve(BEAN.replace('.', '/') + ".class");
+        final ClassReader reader = new ClassReader(Files.readAllBytes(classFile));
+        final ClassWriter writer = new ClassWriter(0);
+        reader.accept(new ClassVisitor(Opcodes.ASM6, writer) {
+            @Override
+            public void visitEnd() {
+                final MethodVisitor mv = visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "changed", "()V", null,
+                        null);
+                mv.visitCode();
+                mv.visitInsn(Opcodes.RETURN);
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+                super.visitEnd();
+            }
+        }, 0);
+        Files.write(classFile, writer.toByteArray());
+
+        final Class<?> bean = load();
+        assertNotNull(bean.getField("transformed"));
+        assertNotNull(bean.getMethod("changed"));
+        assertEquals(2, transformations.get());
+        // the pack was updated
+        load();
+        assertEquals(2, transformations.get());
+    }
+
+    private Class<?> load() throws ClassNotFoundException {
+        final RuntimeClassLoader classLoader = new RuntimeClassLoader(getClass().getClassLoader(), applicationClasses,
+                frameworkClasses, transformerCache, true);
+        final BiFunction<String, ClassVisitor, ClassVisitor> transformer = (name, visitor) -> {
+            transformations.incrementAndGet();
+            return new ClassVisitor(Opcodes.ASM6, visitor) {
+                @Override
+                public void visitEnd() {
+                    visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "transformed", "Z", null, null).visitEnd();
+                    super.visitEnd();
+                }
+            };
+        };
+        final Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> transformers = Collections
+                .singletonMap(BEAN, Collections.singletonList(transformer));
+        classLoader.setTransformers(transformers);
+        final Class<?> bean = classLoader.loadClass(BEAN);
+        assertSame(classLoader, bean.getClassLoader());
+        return bean;
+    }
+}
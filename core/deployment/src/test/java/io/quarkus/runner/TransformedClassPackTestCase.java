@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TransformedClassPackTestCase {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final Path file = tmp.getRoot().toPath().resolve(TransformedClassPack.FILE_NAME);
+        final Map<String, byte[]> classes = new HashMap<>();
+        final Map<String, byte[]> digests = new HashMap<>();
+        add(classes, digests, "org.acme.A", "a", "bytes of A");
+        add(classes, digests, "org.acme.B", "b", "");
+        add(classes, digests, "org.acme.C", "c", "bytes of C");
+        TransformedClassPack.write(file, classes, digests);
+
+        final TransformedClassPack pack = TransformedClassPack.open(file);
+        assertEquals(3, pack.size());
+        for (String name : classes.keySet()) {
+            assertTrue(pack.contains(name, digests.get(name)));
+            assertArrayEquals(classes.get(name), pack.get(name));
+        }
+        assertNull(pack.get("org.acme.D"));
+    }
+
+    @Test
+    public void testChangedClassIsNotContained() throws Exception {
+        final Path file = tmp.getRoot().toPath().resolve(TransformedClassPack.FILE_NAME);
+        final Map<String, byte[]> classes = new HashMap<>();
+        final Map<String, byte[]> digests = new HashMap<>();
+        add(classes, digests, "org.acme.A", "a", "bytes of A");
+        TransformedClassPack.write(file, classes, digests);
+
+        final TransformedClassPack pack = TransformedClassPack.open(file);
+        assertFalse(pack.contains("org.acme.A", bytes("changed")));
+        assertFalse(pack.contains("org.acme.B", bytes("a")));
+    }
+
+    @Test
+    public void testRewriteReplacesEntries() throws Exception {
+        final Path file = tmp.getRoot().toPath().resolve(TransformedClassPack.FILE_NAME);
+        final Map<String, byte[]> classes = new HashMap<>();
+        final Map<String, byte[]> digests = new HashMap<>();
+        add(classes, digests, "org.acme.A", "a", "bytes of A");
+        add(classes, digests, "org.acme.B", "b", "bytes of B");
+        TransformedClassPack.write(file, classes, digests);
+        final TransformedClassPack previous = TransformedClassPack.open(file);
+
+        classes.remove("org.acme.B");
+        digests.remove("org.acme.B");
+        add(classes, digests, "org.acme.A", "a2", "new bytes of A");
+        TransformedClassPack.write(file, classes, digests);
+
+        final TransformedClassPack pack = TransformedClassPack.open(file);
+        assertEquals(1, pack.size());
+        assertTrue(pack.contains("org.acme.A", bytes("a2")));
+        assertArrayEquals(bytes("new bytes of A"), pack.get("org.acme.A"));
+        assertNull(pack.get("org.acme.B"));
+        // the previous pack is still readable
+        assertArrayEquals(bytes("bytes of B"), previous.get("org.acme.B"));
+    }
+
+    @Test
+    public void testUnreadablePackIsEmpty() throws Exception {
+        final Path file = tmp.getRoot().toPath().resolve(TransformedClassPack.FILE_NAME);
+        assertEquals(0, TransformedClassPack.open(null).size());
+        assertEquals(0, TransformedClassPack.open(file).size());
+
+        final Map<String, byte[]> classes = new HashMap<>();
+        final Map<String, byte[]> digests = new HashMap<>();
+        add(classes, digests, "org.acme.A", "a", "bytes of A");
+        TransformedClassPack.write(file, classes, digests);
+        final byte[] bytes = Files.readAllBytes(file);
+        // truncated data section
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals(0, TransformedClassPack.open(file).size());
+        // truncated index
+        Files.write(file, Arrays.copyOf(bytes, 12));
+        assertEquals(0, TransformedClassPack.open(file).size());
+        // not a pack
+        Files.write(file, bytes("not a pack"));
+        assertEquals(0, TransformedClassPack.open(file).size());
+    }
+
+    private static void add(Map<String, byte[]> classes, Map<String, byte[]> digests, String name, String digest,
+            String data) {
+        classes.put(name, bytes(data));
+        digests.put(name, bytes(digest));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -36,6 +36,11 @@ public class DevModeMain {
 
     private static final Logger log = Logger.getLogger(DevModeMain.class);
 
+    /**
+     * Transform the classes with bytecode transformers in parallel at startup instead of on first use.
+     */
+    private static final boolean TRANSFORM_AHEAD_OF_TIME = Boolean.getBoolean("quarkus-transform-ahead-of-time");
+
     private static volatile ClassLoader currentAppClassLoader;
     private static volatile URLClassLoader runtimeCl;
     private static File classesRoot;
@@ -99,6 +104,7 @@ public class DevModeMain {
                         .setTarget(classesRoot.toPath())
                         .setFrameworkClassesPath(wiringDir.toPath())
                         .setTransformerCache(cacheDir.toPath())
+                        .setTransformAheadOfTime(TRANSFORM_AHEAD_OF_TIME)
                         .build();
                 runner.run();
                 closeable = runner;
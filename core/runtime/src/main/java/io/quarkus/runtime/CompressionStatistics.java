@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runtime;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the HTTP responses compressed by the server, which are exposed as vendor metrics if the SmallRye
+ * Metrics extension is present.
+ */
+public final class CompressionStatistics {
+
+    private static final LongAdder responses = new LongAdder();
+    private static final LongAdder bytesIn = new LongAdder();
+    private static final LongAdder bytesOut = new LongAdder();
+
+    private CompressionStatistics() {
+    }
+
+    /**
+     * Record a compressed response.
+     *
+     * @param uncompressed the size of the response before compression
+     * @param compressed the size of the response after compression
+     */
+    public static void record(long uncompressed, long compressed) {
+        responses.increment();
+        bytesIn.add(uncompressed);
+        bytesOut.add(compressed);
+    }
+
+    /**
+     * @return the number of compressed responses
+     */
+    public static long getResponses() {
+        return responses.sum();
+    }
+
+    /**
+     * @return the total size of the compressed responses before compression
+     */
+    public static long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    /**
+     * @return the total size of the compressed responses after compression
+     */
+    public static long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * @return the number of bytes saved by compression
+     */
+    public static long getBytesSaved() {
+        return bytesIn.sum() - bytesOut.sum();
+    }
+}
@@ -19,9 +19,9 @@ package io.quarkus.runtime;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.logging.Logger;
 
@@ -29,8 +29,9 @@ public class StartupContext implements Closeable {
 
     private static final Logger LOG = Logger.getLogger(StartupContext.class);
 
-    private final Map<String, Object> values = new HashMap<>();
-    private final List<Runnable> shutdownTasks = new ArrayList<>();
+    // startup tasks may be run concurrently, see StartupTaskRunner
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+    private final List<Runnable> shutdownTasks = Collections.synchronizedList(new ArrayList<>());
     private final ShutdownContext shutdownContext = new ShutdownContext() {
         @Override
         public void addShutdownTask(Runnable runnable) {
@@ -43,7 +44,11 @@ public class StartupContext implements Closeable {
     }
 
     public void putValue(String name, Object value) {
-        values.put(name, value);
+        if (value == null) {
+            values.remove(name);
+        } else {
+            values.put(name, value);
+        }
     }
 
     public Object getValue(String name) {
@@ -52,7 +57,11 @@ public class StartupContext implements Closeable {
 
     @Override
     public void close() {
-        List<Runnable> toClose = new ArrayList<>(shutdownTasks);
+        List<Runnable> toClose;
+        synchronized (shutdownTasks) {
+            toClose = new ArrayList<>(shutdownTasks);
+            shutdownTasks.clear();
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -61,6 +70,5 @@ public class StartupContext implements Closeable {
                 LOG.error("Running a shutdown task failed", e);
             }
         }
-        shutdownTasks.clear();
     }
 }
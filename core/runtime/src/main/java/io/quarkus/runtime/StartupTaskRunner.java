@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs startup tasks concurrently on a dedicated pool, each task being started once all the tasks it depends on have
+ * completed. Generally this will be used by generated bytecode, and should not be used directly.
+ */
+public final class StartupTaskRunner {
+
+    private final List<StartupTask> tasks = new ArrayList<>();
+    private final List<List<Integer>> dependencies = new ArrayList<>();
+
+    /**
+     * Add a task.
+     *
+     * @param task the task
+     */
+    public void addTask(StartupTask task) {
+        tasks.add(task);
+        dependencies.add(new ArrayList<>());
+    }
+
+    /**
+     * Declare that a task must not start before another one has completed.
+     *
+     * @param task the index of the dependent task
+     * @param dependency the index of the task it depends on, which must have been added before the dependent task
+     */
+    public void addDependency(int task, int dependency) {
+        if (dependency >= task) {
+            throw new IllegalArgumentException("Task " + task + " cannot depend on the later task " + dependency);
+        }
+        dependencies.get(task).add(dependency);
+    }
+
+    /**
+     * Run the tasks and wait for their completion.
+     *
+     * @param context the startup context
+     * @throws RuntimeException the failure of the first failed task, in the order the tasks were added
+     */
+    public void run(StartupContext context) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger count = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()), r -> {
+                    final Thread thread = new Thread(r, "startup-thread-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                });
+        try {
+            final List<CompletableFuture<Void>> futures = new ArrayList<>(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                final StartupTask task = tasks.get(i);
+                final List<Integer> taskDependencies = dependencies.get(i);
+                final CompletableFuture<?>[] required = new CompletableFuture<?>[taskDependencies.size()];
+                for (int j = 0; j < required.length; j++) {
+                    required[j] = futures.get(taskDependencies.get(j));
+                }
+                futures.add(CompletableFuture.allOf(required).thenRunAsync(() -> task.deploy(context), executor));
+            }
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runtime;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.graalvm.nativeimage.ImageInfo;
+import org.jboss.logging.Logger;
+
+/**
+ * Records the duration of the phases, startup tasks and template invocations of the application startup.
+ * <p>
+ * Nothing is recorded unless the timeline is enabled at build time with {@code quarkus.startup.timeline}, in which
+ * case the generated application class calls this class around each startup task and each recorded template
+ * invocation. Once the application has started the timeline is logged, written as a Chrome trace-event file (see
+ * {@code chrome://tracing}), and passed to the registered listeners.
+ */
+public final class StartupTimeline {
+
+    public static final String PHASE = "phase";
+    public static final String STATIC_INIT_TASK = "static-init";
+    public static final String RUNTIME_INIT_TASK = "runtime-init";
+    public static final String TEMPLATE = "template";
+
+    private static final Logger log = Logger.getLogger("io.quarkus.startup");
+
+    private static final List<Entry> entries = Collections.synchronizedList(new ArrayList<>());
+    private static final List<Consumer<List<Entry>>> listeners = new CopyOnWriteArrayList<>();
+    private static volatile List<Entry> completed;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Record an entry which ends now.
+     *
+     * @param category the entry category
+     * @param name the entry name
+     * @param start the start time, as returned by {@link System#nanoTime()}
+     */
+    public static void record(String category, String name, long start) {
+        entries.add(new Entry(category, name, Thread.currentThread().getName(), start, System.nanoTime() - start));
+    }
+
+    /**
+     * Wrap a startup task so that its execution is recorded.
+     *
+     * @param category the entry category
+     * @param name the task name
+     * @param task the task
+     * @return the wrapped task
+     */
+    public static StartupTask timed(String category, String name, StartupTask task) {
+        return new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                final long start = System.nanoTime();
+                try {
+                    task.deploy(context);
+                } finally {
+                    record(category, name, start);
+                }
+            }
+        };
+    }
+
+    /**
+     * Called when the main method starts. The timeline of a previous startup, e.g. before a restart in dev mode, is
+     * discarded. In a native image static init happened at image build time, so its entries are not relevant to this
+     * startup and are discarded as well.
+     */
+    public static void mainStarted() {
+        completed = null;
+        if (ImageInfo.inImageRuntimeCode()) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Called once the application has started.
+     *
+     * @param file the file the timeline is written to, or {@code null}
+     */
+    public static void startupCompleted(String file) {
+        final List<Entry> sorted;
+        synchronized (entries) {
+            sorted = new ArrayList<>(entries);
+            entries.clear();
+        }
+        sorted.sort((e1, e2) -> Long.compare(e1.start, e2.start));
+        final long origin = sorted.isEmpty() ? 0 : sorted.get(0).start;
+        for (Entry entry : sorted) {
+            entry.offset = entry.start - origin;
+        }
+        final List<Entry> result = Collections.unmodifiableList(sorted);
+        completed = result;
+        logReport(result);
+        if (file != null) {
+            try {
+                writeChromeTrace(Paths.get(file), result);
+            } catch (IOException e) {
+                log.warnf(e, "Unable to write the startup timeline to %s", file);
+            }
+        }
+        for (Consumer<List<Entry>> listener : listeners) {
+            listener.accept(result);
+        }
+    }
+
+    /**
+     * Register a listener which receives the timeline once the application has started. Listeners are registered
+     * during startup and are not called for a timeline which completed before they were registered.
+     *
+     * @param listener the listener
+     */
+    public static void addListener(Consumer<List<Entry>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(Consumer<List<Entry>> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return the timeline of the last startup, empty if the application has not started yet or the timeline is not
+     *         enabled
+     */
+    public static List<Entry> getEntries() {
+        final List<Entry> result = completed;
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Sum the durations of the entries with the same category and name, as a template method may be invoked several
+     * times.
+     *
+     * @param entries the entries
+     * @return the total duration in nanoseconds, keyed by {@code category.name}, in order of first occurrence
+     */
+    public static Map<String, Long> totals(List<Entry> entries) {
+        final Map<String, Long> totals = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            totals.merge(entry.category + "." + entry.name, entry.duration, Long::sum);
+        }
+        return totals;
+    }
+
+    private static void logReport(List<Entry> sorted) {
+        final StringBuilder report = new StringBuilder("Startup timeline:");
+        report.append(String.format("%n%10s %10s  %-13s %s", "start [ms]", "took [ms]", "category", "name [thread]"));
+        for (Entry entry : sorted) {
+            report.append(String.format("%n%10.1f %10.1f  %-13s %s [%s]", entry.offset / 1_000_000.0,
+                    entry.duration / 1_000_000.0, entry.category, entry.name, entry.thread));
+        }
+        log.info(report);
+    }
+
+    private static void writeChromeTrace(Path file, List<Entry> sorted) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Map<String, Integer> threadIds = new LinkedHashMap<>();
+        for (Entry entry : sorted) {
+            threadIds.putIfAbsent(entry.thread, threadIds.size() + 1);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\"traceEvents\":[\n");
+            boolean first = true;
+            for (Map.Entry<String, Integer> thread : threadIds.entrySet()) {
+                if (!first) {
+                    writer.write(",\n");
+                }
+                first = false;
+                writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getValue()
+                        + ",\"args\":{\"name\":\"" + escape(thread.getKey()) + "\"}}");
+            }
+            for (Entry entry : sorted) {
+                if (!first) {
+                    writer.write(",\n");
+                }
+                first = false;
+                writer.write("{\"name\":\"" + escape(entry.name) + "\",\"cat\":\"" + escape(entry.category)
+                        + "\",\"ph\":\"X\",\"pid\":1,\"tid\":" + threadIds.get(entry.thread) + ",\"ts\":"
+                        + TimeUnit.NANOSECONDS.toMicros(entry.offset) + ",\"dur\":"
+                        + TimeUnit.NANOSECONDS.toMicros(entry.duration) + "}");
+            }
+            writer.write("\n]}\n");
+        }
+    }
+
+    private static String escape(String value) {
+        final StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    builder.append('\\').append(c);
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.toString();
+    }
+
+    public static final class Entry {
+        private final String category;
+        private final String name;
+        private final String thread;
+        private final long start;
+        private final long duration;
+        private long offset;
+
+        Entry(String category, String name, String thread, long start, long duration) {
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.duration = duration;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return the start time in nanoseconds, relative to the start of the first entry
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return the duration in nanoseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package io.quarkus.runtime.configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.wildfly.common.Assert;
+
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * An immutable view of a configuration, which is installed once the application has started.
+ * <p>
+ * The properties known when the snapshot is created are expanded once and stored in an open-addressed table, and the
+ * values converted to each requested type are cached alongside. Other properties which turn out to be present are
+ * resolved by the delegate configuration on first use, and a bounded number of them is cached as well.
+ * <p>
+ * System properties and the properties provided by a {@link DynamicConfigSource} are never frozen: a property which
+ * such a source currently provides is always resolved by the delegate configuration.
+ */
+public final class ConfigSnapshot extends SmallRyeConfig {
+
+    private static final long serialVersionUID = -1446484524346960484L;
+
+    private static final Object NULL = new Object();
+    private static final String SYS_PROP_SOURCE = "io.smallrye.config.SysPropConfigSource";
+    private static final int MAX_RESOLVED = 256;
+
+    private final SmallRyeConfig delegate;
+    private final ConfigSource[] dynamicSources;
+    private final String[] keys;
+    private final String[] values;
+    private final int mask;
+    private final ConcurrentHashMap<Class<?>, AtomicReferenceArray<Object>> converted = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param delegate the configuration to take a snapshot of (must not be {@code null})
+     */
+    public ConfigSnapshot(final SmallRyeConfig delegate) {
+        super(sources(Assert.checkNotNullParam("delegate", delegate)), Collections.emptyMap());
+        this.delegate = delegate;
+        final List<ConfigSource> sources = new ArrayList<>();
+        final List<ConfigSource> dynamicSources = new ArrayList<>();
+        for (ConfigSource source : delegate.getConfigSources()) {
+            final ConfigSource unwrapped = unwrap(source);
+            if (isDynamic(unwrapped)) {
+                dynamicSources.add(unwrapped);
+            } else {
+                sources.add(source);
+            }
+        }
+        this.dynamicSources = dynamicSources.toArray(new ConfigSource[0]);
+        final Map<String, String> frozen = new HashMap<>();
+        final boolean expanding = ExpandingConfigSource.setExpanding(true);
+        try {
+            for (ConfigSource source : sources) {
+                for (String name : source.getPropertyNames()) {
+                    if (frozen.containsKey(name)) {
+                        continue;
+                    }
+                    try {
+                        delegate.getOptionalValue(name, String.class).ifPresent(value -> frozen.put(name, value));
+                    } catch (RuntimeException e) {
+                        // leave it to the delegate so that the failure is reported when the property is used
+                    }
+                }
+            }
+        } finally {
+            ExpandingConfigSource.setExpanding(expanding);
+        }
+        final int capacity = Integer.highestOneBit(Math.max(frozen.size(), 1) * 2 - 1) << 1;
+        keys = new String[capacity];
+        values = new String[capacity];
+        mask = capacity - 1;
+        for (Map.Entry<String, String> entry : frozen.entrySet()) {
+            int i = hash(entry.getKey()) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+        }
+    }
+
+    /**
+     * Replace the current configuration with a snapshot of it.
+     */
+    public static void install() {
+        final ConfigProviderResolver resolver = ConfigProviderResolver.instance();
+        final Config config = resolver.getConfig();
+        if (config instanceof SmallRyeConfig && !(config instanceof ConfigSnapshot)) {
+            resolver.registerConfig(new ConfigSnapshot((SmallRyeConfig) config),
+                    Thread.currentThread().getContextClassLoader());
+        }
+    }
+
+    public <T> T getValue(final String propertyName, final Class<T> propertyType) {
+        return getOptionalValue(propertyName, propertyType)
+                .orElseThrow(() -> new NoSuchElementException("Property " + propertyName + " not found"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getOptionalValue(final String propertyName, final Class<T> propertyType) {
+        if (isDynamicValue(propertyName)) {
+            return delegate.getOptionalValue(propertyName, propertyType);
+        }
+        final int slot = find(propertyName);
+        if (slot < 0) {
+            return getMissingValue(propertyName, propertyType);
+        }
+        if (propertyType.isArray()) {
+            // arrays are mutable, so they are not shared
+            return Optional.ofNullable(delegate.convert(values[slot], propertyType));
+        }
+        final AtomicReferenceArray<Object> cache = converted.computeIfAbsent(propertyType,
+                t -> new AtomicReferenceArray<>(keys.length));
+        Object value = cache.get(slot);
+        if (value == null) {
+            value = delegate.convert(values[slot], propertyType);
+            if (value == null) {
+                value = NULL;
+            }
+            cache.set(slot, value);
+        }
+        return value == NULL ? Optional.empty() : Optional.of((T) value);
+    }
+
+    public <T, C extends Collection<T>> C getValues(final String propertyName, final Class<T> itemClass,
+            final IntFunction<C> collectionFactory) {
+        return delegate.getValues(propertyName, itemClass, collectionFactory);
+    }
+
+    public Iterable<String> getPropertyNames() {
+        return delegate.getPropertyNames();
+    }
+
+    public Iterable<ConfigSource> getConfigSources() {
+        return delegate.getConfigSources();
+    }
+
+    public <T> T convert(final String value, final Class<T> asType) {
+        return delegate.convert(value, asType);
+    }
+
+    private <T> Optional<T> getMissingValue(final String propertyName, final Class<T> propertyType) {
+        String value = resolved.get(propertyName);
+        if (value == null) {
+            // missing properties are not cached, so their number is not bounded by the configuration
+            final Optional<String> optional = delegate.getOptionalValue(propertyName, String.class);
+            if (!optional.isPresent()) {
+                return Optional.empty();
+            }
+            value = optional.get();
+            if (resolved.size() < MAX_RESOLVED) {
+                resolved.putIfAbsent(propertyName, value);
+            }
+        }
+        return Optional.ofNullable(delegate.convert(value, propertyType));
+    }
+
+    private boolean isDynamicValue(final String name) {
+        for (ConfigSource source : dynamicSources) {
+            if (source.getValue(name) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int find(final String name) {
+        int i = hash(name) & mask;
+        String key;
+        while ((key = keys[i]) != null) {
+            if (key.equals(name)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(final String name) {
+        final int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static List<ConfigSource> sources(final Config config) {
+        final List<ConfigSource> sources = new ArrayList<>();
+        for (ConfigSource source : config.getConfigSources()) {
+            sources.add(source);
+        }
+        return sources;
+    }
+
+    private static ConfigSource unwrap(ConfigSource source) {
+        while (!(source instanceof DynamicConfigSource) && source instanceof AbstractDelegatingConfigSource) {
+            source = ((AbstractDelegatingConfigSource) source).getDelegate();
+        }
+        return source;
+    }
+
+    private static boolean isDynamic(final ConfigSource source) {
+        // system properties may be set at any time, unlike environment variables
+        return source instanceof DynamicConfigSource || source.getClass().getName().equals(SYS_PROP_SOURCE);
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkus.runtime.configuration;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A configuration source whose values may change while the application is running. The properties of such a source
+ * are never frozen into a {@link ConfigSnapshot}, and are always read from the source. System properties are treated
+ * the same way.
+ */
+public interface DynamicConfigSource extends ConfigSource {
+}
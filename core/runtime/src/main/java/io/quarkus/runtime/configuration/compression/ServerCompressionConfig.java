@@ -0,0 +1,67 @@
+package io.quarkus.runtime.configuration.compression;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Shared configuration for the compression of HTTP responses.
+ */
+@ConfigGroup
+public class ServerCompressionConfig {
+    /**
+     * Compress the responses of the clients which accept it.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The minimum size in bytes of a compressed response. Smaller responses are not compressed, as the compression
+     * overhead outweighs the savings. Responses of an unknown size are always compressed.
+     */
+    @ConfigItem(defaultValue = "1024")
+    public int minResponseSize;
+
+    /**
+     * The content types of the compressed responses.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,application/json,application/xml")
+    public List<String> mimeTypes;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (smallest).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * Determine whether a response should be compressed.
+     *
+     * @param contentType the value of the {@code Content-Type} header of the response, or {@code null}
+     * @param contentLength the value of the {@code Content-Length} header of the response, or {@code null}
+     * @return {@code true} if the response should be compressed
+     */
+    public boolean shouldCompress(String contentType, String contentLength) {
+        if (contentType == null) {
+            return false;
+        }
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength) < minResponseSize) {
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        int index = contentType.indexOf(';');
+        String mimeType = (index == -1 ? contentType : contentType.substring(0, index)).trim();
+        for (String allowed : mimeTypes) {
+            if (allowed.equalsIgnoreCase(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ */
+public class StartupTimelineTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    final List<List<StartupTimeline.Entry>> received = new ArrayList<>();
+    final Consumer<List<StartupTimeline.Entry>> listener = received::add;
+
+    @After
+    public void doAfter() {
+        StartupTimeline.removeListener(listener);
+        StartupTimeline.mainStarted();
+    }
+
+    @Test
+    public void testStartupCompleted() throws Exception {
+        StartupTimeline.mainStarted();
+        StartupTimeline.addListener(listener);
+        StartupTimeline.record(StartupTimeline.TEMPLATE, "Template.method", System.nanoTime());
+        StartupTimeline.record(StartupTimeline.TEMPLATE, "Template.method", System.nanoTime());
+        StartupTimeline.record(StartupTimeline.RUNTIME_INIT_TASK, "task \"quoted\"", System.nanoTime());
+        final Path file = folder.getRoot().toPath().resolve("trace").resolve("startup-trace.json");
+        StartupTimeline.startupCompleted(file.toString());
+
+        assertEquals(1, received.size());
+        assertEquals(3, received.get(0).size());
+        assertEquals(received.get(0), StartupTimeline.getEntries());
+        assertEquals(2, StartupTimeline.totals(received.get(0)).size());
+        assertTrue(StartupTimeline.totals(received.get(0)).containsKey("template.Template.method"));
+
+        final String trace = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(trace, trace.startsWith("{\"traceEvents\":["));
+        assertTrue(trace, trace.contains("\"name\":\"Template.method\",\"cat\":\"template\",\"ph\":\"X\""));
+        assertTrue(trace, trace.contains("\"name\":\"task \\\"quoted\\\"\",\"cat\":\"runtime-init\""));
+    }
+
+    @Test
+    public void testRestart() {
+        StartupTimeline.mainStarted();
+        StartupTimeline.record(StartupTimeline.TEMPLATE, "first", System.nanoTime());
+        StartupTimeline.startupCompleted(null);
+        assertEquals(1, StartupTimeline.getEntries().size());
+
+        // a listener registered after the startup completed is not called with the stale timeline
+        StartupTimeline.addListener(listener);
+        assertTrue(received.isEmpty());
+
+        // a restart discards the previous timeline
+        StartupTimeline.mainStarted();
+        assertTrue(StartupTimeline.getEntries().isEmpty());
+        StartupTimeline.record(StartupTimeline.TEMPLATE, "second", System.nanoTime());
+        StartupTimeline.startupCompleted(null);
+
+        assertEquals(1, received.size());
+        assertEquals(1, received.get(0).size());
+        assertEquals("second", received.get(0).get(0).getName());
+    }
+}
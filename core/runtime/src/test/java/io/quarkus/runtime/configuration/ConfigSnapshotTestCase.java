@@ -0,0 +1,177 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ */
+public class ConfigSnapshotTestCase {
+
+    static ClassLoader classLoader;
+    static ConfigProviderResolver cpr;
+    Config config;
+
+    @BeforeClass
+    public static void initConfig() {
+        classLoader = Thread.currentThread().getContextClassLoader();
+        cpr = ConfigProviderResolver.instance();
+    }
+
+    @After
+    public void doAfter() {
+        cpr.releaseConfig(config);
+    }
+
+    private SmallRyeConfig buildConfig(ConfigSource... sources) {
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+        builder.withWrapper(ExpandingConfigSource.WRAPPER);
+        builder.addDefaultSources();
+        builder.withSources(sources);
+        final SmallRyeConfig config = (SmallRyeConfig) builder.build();
+        cpr.registerConfig(config, classLoader);
+        this.config = config;
+        return config;
+    }
+
+    private Map<String, String> map(String... keysAndValues) {
+        final Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    @Test
+    public void testMergedExpandedValues() {
+        final ConfigSnapshot snapshot = new ConfigSnapshot(buildConfig(
+                new PropertiesConfigSource(map("foo", "low", "bar", "${foo}-bar", "baz", "baz"), "low", 100),
+                new PropertiesConfigSource(map("foo", "high"), "high", 200)));
+        assertEquals("high", snapshot.getValue("foo", String.class));
+        assertEquals("high-bar", snapshot.getValue("bar", String.class));
+        assertEquals("baz", snapshot.getValue("baz", String.class));
+    }
+
+    @Test
+    public void testConvertedValues() {
+        final ConfigSnapshot snapshot = new ConfigSnapshot(buildConfig(
+                new PropertiesConfigSource(map("port", "8080", "hosts", "a,b"), "test input", 500)));
+        final Integer port = snapshot.getValue("port", Integer.class);
+        assertEquals(Integer.valueOf(8080), port);
+        assertSame(port, snapshot.getValue("port", Integer.class));
+        assertEquals("8080", snapshot.getValue("port", String.class));
+        assertArrayEquals(new String[] { "a", "b" }, snapshot.getValue("hosts", String[].class));
+    }
+
+    @Test
+    public void testMissingValue() {
+        final ConfigSnapshot snapshot = new ConfigSnapshot(buildConfig(
+                new PropertiesConfigSource(map("foo", "foo"), "test input", 500)));
+        assertFalse(snapshot.getOptionalValue("missing", String.class).isPresent());
+        try {
+            snapshot.getValue("missing", String.class);
+            fail("Expected exception");
+        } catch (NoSuchElementException expected) {
+        }
+    }
+
+    @Test
+    public void testDynamicSource() {
+        final MapConfigSource dynamic = new DynamicMapConfigSource(map("foo", "dynamic"));
+        final ConfigSnapshot snapshot = new ConfigSnapshot(buildConfig(
+                new PropertiesConfigSource(map("foo", "static", "bar", "static"), "test input", 100), dynamic));
+        assertEquals("dynamic", snapshot.getValue("foo", String.class));
+        dynamic.properties.put("foo", "changed");
+        dynamic.properties.put("baz", "added");
+        assertEquals("changed", snapshot.getValue("foo", String.class));
+        assertEquals("added", snapshot.getValue("baz", String.class));
+        assertEquals("static", snapshot.getValue("bar", String.class));
+    }
+
+    @Test
+    public void testSystemProperties() {
+        final ConfigSnapshot snapshot = new ConfigSnapshot(buildConfig(
+                new PropertiesConfigSource(map("snapshot.foo", "static"), "test input", 100)));
+        assertEquals("static", snapshot.getValue("snapshot.foo", String.class));
+        System.setProperty("snapshot.foo", "changed");
+        System.setProperty("snapshot.bar", "added");
+        try {
+            assertEquals("changed", snapshot.getValue("snapshot.foo", String.class));
+            assertEquals("added", snapshot.getValue("snapshot.bar", String.class));
+        } finally {
+            System.clearProperty("snapshot.foo");
+            System.clearProperty("snapshot.bar");
+        }
+        assertEquals("static", snapshot.getValue("snapshot.foo", String.class));
+        assertFalse(snapshot.getOptionalValue("snapshot.bar", String.class).isPresent());
+    }
+
+    @Test
+    public void testMissingValueNotCached() {
+        final MapConfigSource source = new MapConfigSource(map("foo", "foo"));
+        final ConfigSnapshot snapshot = new ConfigSnapshot(buildConfig(source));
+        assertFalse(snapshot.getOptionalValue("late", String.class).isPresent());
+        source.properties.put("late", "42");
+        assertEquals(Integer.valueOf(42), snapshot.getValue("late", Integer.class));
+    }
+
+    @Test
+    public void testInstall() {
+        buildConfig(new PropertiesConfigSource(map("foo", "foo"), "test input", 100));
+        ConfigSnapshot.install();
+        config = cpr.getConfig();
+        assertTrue(config instanceof ConfigSnapshot);
+        assertEquals("foo", ((SmallRyeConfig) config).getValue("foo", String.class));
+        ConfigSnapshot.install();
+        assertSame(config, cpr.getConfig());
+    }
+
+    static class MapConfigSource implements ConfigSource {
+        final Map<String, String> properties;
+
+        MapConfigSource(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        public String getName() {
+            return "dynamic";
+        }
+
+        public int getOrdinal() {
+            return 200;
+        }
+    }
+
+    static final class DynamicMapConfigSource extends MapConfigSource implements DynamicConfigSource {
+
+        DynamicMapConfigSource(Map<String, String> properties) {
+            super(properties);
+        }
+    }
+}
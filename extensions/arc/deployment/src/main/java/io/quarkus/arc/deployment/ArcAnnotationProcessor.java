@@ -222,6 +222,7 @@ public class ArcAnnotationProcessor {
             builder.addBeanDeploymentValidator(item.getBeanDeploymentValidator());
         }
         builder.setRemoveUnusedBeans(arc.removeUnusedBeans);
+        builder.setParallelGeneration(arc.parallelGeneration);
         builder.addRemovalExclusion(new BeanClassNameExclusion(LifecycleEventRunner.class.getName()));
         for (AdditionalBeanBuildItem additionalBean : this.additionalBeans) {
             if (!additionalBean.isRemovable()) {
@@ -248,7 +249,9 @@ public class ArcAnnotationProcessor {
         }
 
         BeanProcessor beanProcessor = builder.build();
+        long start = System.currentTimeMillis();
         BeanDeployment beanDeployment = beanProcessor.process();
+        log.debugf("Bean deployment processed in %s ms", System.currentTimeMillis() - start);
 
         ArcContainer container = arcTemplate.getContainer(shutdown);
         BeanContainer beanContainer = arcTemplate.initBeanContainer(container,
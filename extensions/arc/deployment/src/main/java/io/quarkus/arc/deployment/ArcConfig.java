@@ -27,4 +27,12 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean removeUnusedBeans;
 
+    /**
+     * If set to true the bean, interceptor and observer classes are generated in parallel.
+     * <p>
+     * The generated classes are identical regardless of this setting.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean parallelGeneration;
+
 }
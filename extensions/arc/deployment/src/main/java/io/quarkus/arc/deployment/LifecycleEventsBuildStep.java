@@ -7,6 +7,7 @@ import java.util.List;
 import io.quarkus.arc.runtime.ArcDeploymentTemplate;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 
@@ -16,7 +17,9 @@ public class LifecycleEventsBuildStep {
     @Record(RUNTIME_INIT)
     void startupEvent(ArcDeploymentTemplate template, List<ServiceStartBuildItem> startList,
             BeanContainerBuildItem beanContainer,
-            ShutdownContextBuildItem shutdown) {
+            ShutdownContextBuildItem shutdown, ExecutorBuildItem executor) {
+        // Async events should be delivered using the managed executor
+        template.initExecutor(executor.getExecutorProxy());
         template.handleLifecycleEvents(shutdown, beanContainer.getValue());
     }
 
@@ -74,6 +74,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ProxyUnwrapperBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveHierarchyBuildItem;
@@ -83,13 +84,17 @@ import io.quarkus.deployment.builditem.substrate.SubstrateProxyDefinitionBuildIt
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
 import io.quarkus.deployment.util.ServiceUtil;
 import io.quarkus.resteasy.runtime.QuarkusInjectorFactory;
+import io.quarkus.resteasy.runtime.ResourcePathTrie;
 import io.quarkus.resteasy.runtime.ResteasyFilter;
 import io.quarkus.resteasy.runtime.ResteasyTemplate;
 import io.quarkus.resteasy.runtime.RolesFilterRegistrar;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.undertow.deployment.FilterBuildItem;
+import io.quarkus.undertow.deployment.KnownPathsBuildItem;
 import io.quarkus.undertow.deployment.ServletBuildItem;
+import io.quarkus.undertow.deployment.ServletContextAttributeBuildItem;
 import io.quarkus.undertow.deployment.ServletInitParamBuildItem;
 
 /**
@@ -251,7 +256,10 @@ public class ResteasyScanningProcessor {
             BuildProducer<FilterBuildItem> filterProducer,
             BuildProducer<ServletBuildItem> servletProducer,
             BuildProducer<ServletInitParamBuildItem> servletContextParams,
-            CombinedIndexBuildItem combinedIndexBuildItem) throws Exception {
+            BuildProducer<ServletContextAttributeBuildItem> servletContextAttributes,
+            CombinedIndexBuildItem combinedIndexBuildItem,
+            KnownPathsBuildItem knownPaths,
+            LaunchModeBuildItem launchMode) throws Exception {
         feature.produce(new FeatureBuildItem(FeatureBuildItem.RESTEASY));
 
         IndexView index = combinedIndexBuildItem.getIndex();
@@ -340,6 +348,11 @@ public class ResteasyScanningProcessor {
                                 .addFilterServletNameMapping("default", DispatcherType.REQUEST).setAsyncSupported(true)
                                 .build());
                 reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, ResteasyFilter.class.getName()));
+                //static resources may be added while in dev mode, so the default servlet is always tried first
+                if (launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT) {
+                    servletContextAttributes.produce(new ServletContextAttributeBuildItem(ResteasyFilter.RESOURCE_PATH_TRIE,
+                            buildResourcePathTrie(index, knownPaths)));
+                }
             } else {
                 servletProducer.produce(ServletBuildItem.builder(JAX_RS_SERVLET_NAME, HttpServlet30Dispatcher.class.getName())
                         .setLoadOnStartup(1).addMapping(mappingPath).setAsyncSupported(true).build());
@@ -404,6 +417,38 @@ public class ResteasyScanningProcessor {
         registerReflectionForSerialization(reflectiveClass, reflectiveHierarchy, combinedIndexBuildItem);
     }
 
+    private static ResourcePathTrie buildResourcePathTrie(IndexView index, KnownPathsBuildItem knownPaths) {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        for (AnnotationInstance annotation : index.getAnnotations(PATH)) {
+            if (annotation.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            String classPath = annotation.value().asString();
+            trie.addTemplate(classPath, false);
+            ClassInfo clazz = annotation.target().asClass();
+            while (clazz != null) {
+                for (MethodInfo method : clazz.methods()) {
+                    AnnotationInstance methodPath = method.annotation(PATH);
+                    if (methodPath != null && methodPath.target().kind() == AnnotationTarget.Kind.METHOD) {
+                        //a method without a HTTP method annotation is a sub-resource locator
+                        boolean locator = Arrays.stream(METHOD_ANNOTATIONS).noneMatch(method::hasAnnotation);
+                        trie.addTemplate(classPath + "/" + methodPath.value().asString(), locator);
+                    }
+                }
+                clazz = clazz.superName() == null ? null : index.getClassByName(clazz.superName());
+            }
+        }
+        //the static resources must be added last, as only the ones that match a template are kept
+        trie.addStaticPath("");
+        for (String directory : knownPaths.getKnownDirectories()) {
+            trie.addStaticPath(directory);
+        }
+        for (String file : knownPaths.getKnownFiles()) {
+            trie.addStaticPath(file);
+        }
+        return trie;
+    }
+
     @Record(STATIC_INIT)
     @BuildStep
     void registerProviders(BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("{type}/fallback")
+public class FallbackResource {
+
+    @GET
+    public String fallback(@PathParam("type") String type) {
+        return "Fallback " + type;
+    }
+
+    @GET
+    @Path("{path: .+}")
+    public String fallback(@PathParam("type") String type, @PathParam("path") String path) {
+        return "Fallback " + type + " " + path;
+    }
+}
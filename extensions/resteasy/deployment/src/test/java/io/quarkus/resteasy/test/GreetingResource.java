@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/greeting")
+public class GreetingResource {
+
+    @GET
+    public String greeting() {
+        return "Hello";
+    }
+
+    @GET
+    @Path("{name}")
+    public String greeting(@PathParam("name") String name) {
+        return "Hello " + name;
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.resteasy.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/regex")
+public class RegexResource {
+
+    @GET
+    @Path("{path: .+}")
+    public String regex(@PathParam("path") String path) {
+        return "Regex " + path;
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.resteasy.test;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ResourcePathRoutingTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(GreetingResource.class, RegexResource.class, FallbackResource.class)
+                    .addAsResource(new StringAsset("Static file"), "META-INF/resources/greeting/file.txt")
+                    .addAsResource(new StringAsset("Static regex file"), "META-INF/resources/regex/a/file.txt")
+                    .addAsResource(new StringAsset("Index"), "META-INF/resources/index.html"));
+
+    @Test
+    public void testResourcePaths() {
+        RestAssured.when().get("/greeting").then().body(Matchers.is("Hello"));
+        RestAssured.when().get("/greeting/").then().body(Matchers.is("Hello"));
+        RestAssured.when().get("/greeting/Stuart").then().body(Matchers.is("Hello Stuart"));
+    }
+
+    @Test
+    public void testRegexResourcePaths() {
+        RestAssured.when().get("/regex/a").then().body(Matchers.is("Regex a"));
+        RestAssured.when().get("/regex/a/b/c").then().body(Matchers.is("Regex a/b/c"));
+    }
+
+    @Test
+    public void testStaticResourcesTakePrecedence() {
+        RestAssured.when().get("/greeting/file.txt").then().body(Matchers.is("Static file"));
+        RestAssured.when().get("/regex/a/file.txt").then().body(Matchers.is("Static regex file"));
+        RestAssured.when().get("/").then().body(Matchers.is("Index"));
+    }
+
+    @Test
+    public void testFallbackToResteasyMatching() {
+        // templates starting with a parameter are not in the trie, so these go through the default servlet first
+        RestAssured.when().get("/foo/fallback").then().body(Matchers.is("Fallback foo"));
+        RestAssured.when().get("/foo/fallback/a/b").then().body(Matchers.is("Fallback foo a/b"));
+        RestAssured.when().head("/foo/fallback").then().statusCode(200);
+    }
+
+    @Test
+    public void testUnknownPath() {
+        RestAssured.when().get("/unknown").then().statusCode(404);
+    }
+}
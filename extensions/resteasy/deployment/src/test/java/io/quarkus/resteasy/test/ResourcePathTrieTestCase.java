@@ -0,0 +1,109 @@
+package io.quarkus.resteasy.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.resteasy.runtime.ResourcePathTrie;
+
+public class ResourcePathTrieTestCase {
+
+    @Test
+    public void testTemplates() {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        trie.addTemplate("/greeting", false);
+        trie.addTemplate("/greeting/{name}", false);
+        trie.addTemplate("/greeting/{name}/details", false);
+
+        assertTrue(trie.isResourcePath("/greeting"));
+        assertTrue(trie.isResourcePath("greeting"));
+        assertTrue(trie.isResourcePath("/greeting/"));
+        assertTrue(trie.isResourcePath("/greeting/Stuart"));
+        assertTrue(trie.isResourcePath("/greeting/Stuart/details"));
+        assertTrue(trie.isResourcePath("/greeting;lang=en/Stuart;format=short"));
+        assertFalse(trie.isResourcePath("/"));
+        assertFalse(trie.isResourcePath("/greetings"));
+        assertFalse(trie.isResourcePath("/greeting/Stuart/other"));
+        assertFalse(trie.isResourcePath("/greeting/Stuart/details/more"));
+        assertFalse(trie.isResourcePath("/greeting//details"));
+    }
+
+    @Test
+    public void testRegexParameters() {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        trie.addTemplate("/files/{path: .+}", false);
+        trie.addTemplate("/items/{id: [0-9]+}/{name}", false);
+
+        assertTrue(trie.isResourcePath("/files/a"));
+        assertTrue(trie.isResourcePath("/files/a/b/c"));
+        // the regular expressions are not evaluated, RESTEasy returns a 404 for the paths they do not match
+        assertTrue(trie.isResourcePath("/items/abc"));
+        assertTrue(trie.isResourcePath("/items/1/a/b"));
+        assertFalse(trie.isResourcePath("/file/a"));
+    }
+
+    @Test
+    public void testOverlappingPrefixes() {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        trie.addTemplate("/api", false);
+        trie.addTemplate("/api/users", false);
+        trie.addTemplate("/api/{version}/users", false);
+        trie.addTemplate("/api/v1/orders", false);
+        trie.addTemplate("/api/locator", true);
+
+        assertTrue(trie.isResourcePath("/api"));
+        assertTrue(trie.isResourcePath("/api/users"));
+        assertTrue(trie.isResourcePath("/api/v1/users"));
+        assertTrue(trie.isResourcePath("/api/v2/users"));
+        // the literal segment does not hide the parameter
+        assertTrue(trie.isResourcePath("/api/v1/orders"));
+        assertFalse(trie.isResourcePath("/api/v2/orders"));
+        assertFalse(trie.isResourcePath("/api/users/1"));
+        // a sub-resource locator matches any path below it
+        assertTrue(trie.isResourcePath("/api/locator"));
+        assertTrue(trie.isResourcePath("/api/locator/a/b"));
+        assertFalse(trie.isResourcePath("/api/locators"));
+    }
+
+    @Test
+    public void testTemplatesStartingWithParameter() {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        trie.addTemplate("{type}/fallback", false);
+        trie.addTemplate("/{path: .+}", false);
+
+        // these are left to the default servlet first, and then to RESTEasy's own matching
+        assertFalse(trie.isResourcePath("/foo/fallback"));
+        assertFalse(trie.isResourcePath("/index.html"));
+    }
+
+    @Test
+    public void testRootTemplate() {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        trie.addTemplate("/", false);
+        trie.addTemplate("/greeting", false);
+        trie.addStaticPath("");
+
+        // the root is also where the welcome file is served from
+        assertFalse(trie.isResourcePath("/"));
+        assertTrue(trie.isResourcePath("/greeting"));
+    }
+
+    @Test
+    public void testStaticPaths() {
+        ResourcePathTrie trie = new ResourcePathTrie();
+        trie.addTemplate("/greeting/{name}", false);
+        trie.addTemplate("/files/{path: .+}", false);
+        trie.addStaticPath("/greeting/file.txt");
+        trie.addStaticPath("/files/a/b.txt");
+        trie.addStaticPath("/other/file.txt");
+
+        assertFalse(trie.isResourcePath("/greeting/file.txt"));
+        assertFalse(trie.isResourcePath("/files/a/b.txt"));
+        assertFalse(trie.isResourcePath("/other/file.txt"));
+        assertTrue(trie.isResourcePath("/greeting/Stuart"));
+        assertTrue(trie.isResourcePath("/files/a/c.txt"));
+        // only the static paths which match a template are kept
+        assertFalse(trie.getStaticPaths().contains("other/file.txt"));
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.resteasy.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trie of the {@code @Path} templates of the JAX-RS resources, built at build time, that tells the
+ * {@link ResteasyFilter} which requests can be dispatched to RESTEasy without trying the default servlet first.
+ * <p>
+ * Each node is a path segment. A template parameter such as {@code {id}} matches any single segment, and a parameter
+ * with a regular expression, as well as a sub-resource locator, matches any remaining path. The matching is
+ * deliberately permissive, as a request that does not end up matching a resource method simply gets a 404 from
+ * RESTEasy, but templates which start with a parameter are not added, as they could shadow static resources that are
+ * not known at build time.
+ */
+public class ResourcePathTrie {
+
+    private Node root = new Node();
+    private Set<String> staticPaths = new HashSet<>();
+
+    /**
+     * Add a resource template.
+     *
+     * @param template the template, made of the class and method {@code @Path} values
+     * @param prefix {@code true} if the template is the one of a sub-resource locator, and so matches any path below it
+     */
+    public void addTemplate(String template, boolean prefix) {
+        final List<String> segments = splitTemplate(template);
+        if (!segments.isEmpty() && segments.get(0).indexOf('{') != -1) {
+            return;
+        }
+        Node node = root;
+        for (String segment : segments) {
+            if (segment.indexOf('{') == -1) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            } else if (segment.indexOf(':') == -1) {
+                if (node.parameter == null) {
+                    node.parameter = new Node();
+                }
+                node = node.parameter;
+            } else {
+                // a regular expression may match any number of segments
+                node.any = true;
+                return;
+            }
+        }
+        if (prefix) {
+            node.any = true;
+        } else {
+            node.end = true;
+        }
+    }
+
+    /**
+     * Add a known static resource. This must be called once all the templates have been added.
+     *
+     * @param path the path of the resource, relative to the root of the web resources
+     */
+    public void addStaticPath(String path) {
+        final String normalized = normalize(path);
+        if (match(root, normalized, 0)) {
+            staticPaths.add(normalized);
+        }
+    }
+
+    /**
+     * @param path the decoded request path
+     * @return {@code true} if the path matches a resource template and is not a known static resource
+     */
+    public boolean isResourcePath(String path) {
+        final String normalized = normalize(path);
+        return match(root, normalized, 0) && !staticPaths.contains(normalized);
+    }
+
+    public Node getRoot() {
+        return root;
+    }
+
+    public void setRoot(Node root) {
+        this.root = root;
+    }
+
+    public Set<String> getStaticPaths() {
+        return staticPaths;
+    }
+
+    public void setStaticPaths(Set<String> staticPaths) {
+        this.staticPaths = staticPaths;
+    }
+
+    private static boolean match(Node node, String path, int pos) {
+        if (node.any) {
+            return true;
+        }
+        if (pos >= path.length()) {
+            return node.end;
+        }
+        int end = path.indexOf('/', pos);
+        if (end == -1) {
+            end = path.length();
+        }
+        int segmentEnd = path.indexOf(';', pos);
+        if (segmentEnd == -1 || segmentEnd > end) {
+            segmentEnd = end;
+        }
+        final Node child = node.children.get(path.substring(pos, segmentEnd));
+        if (child != null && match(child, path, end + 1)) {
+            return true;
+        }
+        return node.parameter != null && segmentEnd > pos && match(node.parameter, path, end + 1);
+    }
+
+    private static String normalize(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+
+    private static List<String> splitTemplate(String template) {
+        final List<String> segments = new ArrayList<>();
+        final String normalized = normalize(template);
+        if (normalized.isEmpty()) {
+            return segments;
+        }
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            final char c = normalized.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                segments.add(normalized.substring(start, i));
+                start = i + 1;
+            }
+        }
+        segments.add(normalized.substring(start));
+        return segments;
+    }
+
+    public static class Node {
+
+        private Map<String, Node> children = new HashMap<>();
+        private Node parameter;
+        private boolean end;
+        private boolean any;
+
+        public Map<String, Node> getChildren() {
+            return children;
+        }
+
+        public void setChildren(Map<String, Node> children) {
+            this.children = children;
+        }
+
+        public Node getParameter() {
+            return parameter;
+        }
+
+        public void setParameter(Node parameter) {
+            this.parameter = parameter;
+        }
+
+        public boolean isEnd() {
+            return end;
+        }
+
+        public void setEnd(boolean end) {
+            this.end = end;
+        }
+
+        public boolean isAny() {
+            return any;
+        }
+
+        public void setAny(boolean any) {
+            this.any = any;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package io.quarkus.resteasy.runtime;
 import java.io.IOException;
 
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
@@ -29,16 +30,34 @@ import org.jboss.resteasy.plugins.server.servlet.Filter30Dispatcher;
 
 /**
  * A filter that will be mapped to the default servlet. At first content will attempt to be served from the
- * default servlet, and if it fails then a REST response will be attempted
+ * default servlet, and if it fails then a REST response will be attempted.
+ * <p>
+ * Requests whose path matches the {@link ResourcePathTrie} built at build time, and is not a known static resource,
+ * are sent to RESTEasy directly.
  */
 public class ResteasyFilter extends Filter30Dispatcher {
 
+    /**
+     * The servlet context attribute holding the {@link ResourcePathTrie}, if any.
+     */
+    public static final String RESOURCE_PATH_TRIE = ResteasyFilter.class.getName() + ".resourcePathTrie";
+
+    private ResourcePathTrie resourcePathTrie;
+
+    @Override
+    public void init(FilterConfig servletConfig) throws ServletException {
+        super.init(servletConfig);
+        resourcePathTrie = (ResourcePathTrie) servletConfig.getServletContext().getAttribute(RESOURCE_PATH_TRIE);
+    }
+
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
             throws IOException, ServletException {
         HttpServletResponse response = (HttpServletResponse) servletResponse;
         HttpServletRequest request = (HttpServletRequest) servletRequest;
-        if (request.getMethod().equals("GET") || request.getMethod().equals("HEAD")) {
+        if (resourcePathTrie != null && resourcePathTrie.isResourcePath(getPath(request))) {
+            servletContainerDispatcher.service(request.getMethod(), request, response, true);
+        } else if (request.getMethod().equals("GET") || request.getMethod().equals("HEAD")) {
             //we only serve get requests from the default servlet
             filterChain.doFilter(servletRequest, new ResteasyResponseWrapper(response, request));
         } else {
@@ -46,6 +65,11 @@ public class ResteasyFilter extends Filter30Dispatcher {
         }
     }
 
+    private static String getPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
     private class ResteasyResponseWrapper extends HttpServletResponseWrapper {
 
         final HttpServletRequest request;
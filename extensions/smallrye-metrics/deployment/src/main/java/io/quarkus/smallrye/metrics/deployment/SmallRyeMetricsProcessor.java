@@ -16,6 +16,7 @@
 
 package io.quarkus.smallrye.metrics.deployment;
 
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.util.Arrays;
@@ -45,6 +46,7 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.smallrye.metrics.runtime.SmallRyeMetricsServlet;
 import io.quarkus.smallrye.metrics.runtime.SmallRyeMetricsTemplate;
 import io.quarkus.undertow.deployment.ServletBuildItem;
+import io.quarkus.undertow.runtime.HttpConfig;
 import io.smallrye.metrics.MetricProducer;
 import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.MetricsRequestHandler;
@@ -142,6 +144,15 @@ public class SmallRyeMetricsProcessor {
     void registerBaseAndVendorMetrics(SmallRyeMetricsTemplate metrics, ShutdownContextBuildItem shutdown) {
         metrics.registerBaseMetrics(shutdown);
         metrics.registerVendorMetrics(shutdown);
+        metrics.registerStartupTimelineMetrics(shutdown);
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerHttpCompressionMetrics(SmallRyeMetricsTemplate metrics, HttpConfig httpConfig,
+            ShutdownContextBuildItem shutdown) {
+        // the compression is enabled by the runtime configuration
+        metrics.registerHttpCompressionMetrics(httpConfig, shutdown);
     }
 
 }
@@ -26,6 +26,10 @@ import java.lang.management.RuntimeMXBean;
 import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.MetricRegistry;
@@ -35,8 +39,11 @@ import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.CompressionStatistics;
 import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.StartupTimeline;
 import io.quarkus.runtime.annotations.Template;
+import io.quarkus.undertow.runtime.HttpConfig;
 import io.smallrye.metrics.MetricRegistries;
 
 @Template
@@ -69,6 +76,15 @@ public class SmallRyeMetricsTemplate {
     private static final String MEMORY_USED_HEAP = "memory.usedHeap";
     private static final String MEMORY_USED_NON_HEAP = "memory.usedNonHeap";
 
+    // http compression
+    private static final String HTTP_COMPRESSION_RESPONSES = "http.compression.responses";
+    private static final String HTTP_COMPRESSION_BYTES_IN = "http.compression.bytesIn";
+    private static final String HTTP_COMPRESSION_BYTES_OUT = "http.compression.bytesOut";
+    private static final String HTTP_COMPRESSION_BYTES_SAVED = "http.compression.bytesSaved";
+
+    // startup
+    private static final String STARTUP_TIMELINE = "startup.";
+
     public void registerVendorMetrics(ShutdownContext shutdown) {
         MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
         List<String> names = new ArrayList<>();
@@ -105,6 +121,49 @@ public class SmallRyeMetricsTemplate {
         }
     }
 
+    public void registerHttpCompressionMetrics(HttpConfig config, ShutdownContext shutdown) {
+        if (!config.compression.enabled) {
+            return;
+        }
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        List<String> names = new ArrayList<>();
+
+        httpCompressionMetrics(registry, names);
+
+        shutdown.addShutdownTask(() -> {
+            for (String i : names) {
+                registry.remove(i);
+            }
+        });
+    }
+
+    public void registerStartupTimelineMetrics(ShutdownContext shutdown) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Set<String> names = new CopyOnWriteArraySet<>();
+
+        // the timeline is only available once the application has started
+        Consumer<List<StartupTimeline.Entry>> listener = entries -> {
+            for (Map.Entry<String, Long> total : StartupTimeline.totals(entries).entrySet()) {
+                Metadata meta = new Metadata(STARTUP_TIMELINE + total.getKey(), MetricType.GAUGE, MetricUnits.MILLISECONDS);
+                meta.setDisplayName("Startup time of " + total.getKey());
+                meta.setDescription("Displays the time spent in " + total.getKey() + " during the application startup.");
+                double millis = total.getValue() / 1_000_000.0;
+                // replace a gauge left over from a previous startup instead of failing on the duplicate
+                registry.remove(meta.getName());
+                registry.register(meta, new LambdaGauge(() -> millis));
+                names.add(meta.getName());
+            }
+        };
+        StartupTimeline.addListener(listener);
+
+        shutdown.addShutdownTask(() -> {
+            StartupTimeline.removeListener(listener);
+            for (String i : names) {
+                registry.remove(i);
+            }
+        });
+    }
+
     public void createRegistries(BeanContainer container) {
         MetricRegistries.get(MetricRegistry.Type.APPLICATION);
         MetricRegistries.get(MetricRegistry.Type.BASE);
@@ -271,6 +330,32 @@ public class SmallRyeMetricsTemplate {
         names.add(MEMORY_USED_NON_HEAP);
     }
 
+    private void httpCompressionMetrics(MetricRegistry registry, List<String> names) {
+        Metadata meta = new Metadata(HTTP_COMPRESSION_RESPONSES, MetricType.GAUGE, MetricUnits.NONE);
+        meta.setDisplayName("Compressed HTTP Responses");
+        meta.setDescription("Displays the number of HTTP responses that have been compressed.");
+        registry.register(meta, new LambdaGauge(() -> CompressionStatistics.getResponses()));
+        names.add(HTTP_COMPRESSION_RESPONSES);
+
+        meta = new Metadata(HTTP_COMPRESSION_BYTES_IN, MetricType.GAUGE, MetricUnits.BYTES);
+        meta.setDisplayName("HTTP Compression Bytes In");
+        meta.setDescription("Displays the size in bytes of the compressed HTTP responses before compression.");
+        registry.register(meta, new LambdaGauge(() -> CompressionStatistics.getBytesIn()));
+        names.add(HTTP_COMPRESSION_BYTES_IN);
+
+        meta = new Metadata(HTTP_COMPRESSION_BYTES_OUT, MetricType.GAUGE, MetricUnits.BYTES);
+        meta.setDisplayName("HTTP Compression Bytes Out");
+        meta.setDescription("Displays the size in bytes of the compressed HTTP responses after compression.");
+        registry.register(meta, new LambdaGauge(() -> CompressionStatistics.getBytesOut()));
+        names.add(HTTP_COMPRESSION_BYTES_OUT);
+
+        meta = new Metadata(HTTP_COMPRESSION_BYTES_SAVED, MetricType.GAUGE, MetricUnits.BYTES);
+        meta.setDisplayName("HTTP Compression Bytes Saved");
+        meta.setDescription("Displays the number of bytes that the compression of the HTTP responses has saved.");
+        registry.register(meta, new LambdaGauge(() -> CompressionStatistics.getBytesSaved()));
+        names.add(HTTP_COMPRESSION_BYTES_SAVED);
+    }
+
     private void memoryPoolMetrics(MetricRegistry registry, List<String> names) {
         // MemoryPoolMXBean doesn't work in native mode
         if (!ImageInfo.inImageCode()) {
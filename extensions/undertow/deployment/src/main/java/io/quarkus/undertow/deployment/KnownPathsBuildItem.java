@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.deployment;
+
+import java.util.Set;
+
+import org.jboss.builder.item.SimpleBuildItem;
+
+/**
+ * The static web resources found under {@code META-INF/resources} in the application archives, relative to that
+ * directory.
+ */
+public final class KnownPathsBuildItem extends SimpleBuildItem {
+
+    private final Set<String> knownFiles;
+    private final Set<String> knownDirectories;
+
+    public KnownPathsBuildItem(Set<String> knownFiles, Set<String> knownDirectories) {
+        this.knownFiles = knownFiles;
+        this.knownDirectories = knownDirectories;
+    }
+
+    public Set<String> getKnownFiles() {
+        return knownFiles;
+    }
+
+    public Set<String> getKnownDirectories() {
+        return knownDirectories;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.deployment;
+
+import java.util.Map;
+
+import org.jboss.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources which are served from memory, and their precompressed variants.
+ */
+public final class StaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> etags;
+
+    public StaticResourcesBuildItem(Map<String, String> etags) {
+        this.etags = etags;
+    }
+
+    /**
+     * @return the strong ETags of the resources, keyed by path relative to {@code META-INF/resources}
+     */
+    public Map<String, String> getETags() {
+        return etags;
+    }
+}
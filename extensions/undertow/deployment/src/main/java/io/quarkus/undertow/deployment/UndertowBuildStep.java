@@ -22,11 +22,15 @@ import static io.undertow.servlet.api.SecurityInfo.EmptyRoleSemantic.DENY;
 import static io.undertow.servlet.api.SecurityInfo.EmptyRoleSemantic.PERMIT;
 import static javax.servlet.DispatcherType.REQUEST;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,11 +39,16 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.security.DeclareRoles;
 import javax.annotation.security.RunAs;
 import javax.enterprise.context.SessionScoped;
 import javax.inject.Inject;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
 import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.annotation.ServletSecurity;
 import javax.servlet.annotation.WebFilter;
@@ -100,6 +109,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentConfigFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ObjectSubstitutionBuildItem;
@@ -109,8 +119,11 @@ import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateConfigBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.undertow.runtime.HttpConfig;
 import io.quarkus.undertow.runtime.HttpSessionContext;
 import io.quarkus.undertow.runtime.ServletProducer;
@@ -124,6 +137,7 @@ import io.undertow.servlet.api.HttpMethodSecurityInfo;
 import io.undertow.servlet.api.ServletInfo;
 import io.undertow.servlet.api.ServletSecurityInfo;
 import io.undertow.servlet.handlers.DefaultServlet;
+import io.undertow.util.MimeMappings;
 
 public class UndertowBuildStep {
 
@@ -136,9 +150,49 @@ public class UndertowBuildStep {
     public static final DotName SERVLET_SECURITY = DotName.createSimple(ServletSecurity.class.getName());
     public static final String WEB_XML = "META-INF/web.xml";
 
+    private static final Set<String> COMPRESSIBLE_TYPES = new HashSet<>(Arrays.asList(
+            "application/javascript",
+            "application/json",
+            "application/xml",
+            "image/svg+xml",
+            "image/x-icon"));
+
     @Inject
     CombinedIndexBuildItem combinedIndexBuildItem;
 
+    StaticResourcesConfig staticResources;
+
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class StaticResourcesConfig {
+        /**
+         * Serve the static resources of the application archives from memory, with strong ETags computed at build
+         * time. This does not apply in dev mode, where the resources may change.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean inMemory;
+
+        /**
+         * The maximum size in bytes of a static resource served from memory. Larger resources are read from the class
+         * path on every request.
+         */
+        @ConfigItem(defaultValue = "10485760")
+        int maxInMemorySize;
+
+        /**
+         * The maximum total size in bytes of the static resources served from memory. Once it is reached, the other
+         * resources are read from the class path on every request.
+         */
+        @ConfigItem(defaultValue = "52428800")
+        int maxTotalInMemorySize;
+
+        /**
+         * Generate a gzip variant of the textual static resources at build time, which is served to the clients that
+         * accept it.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean precompress;
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public ServiceStartBuildItem boot(UndertowDeploymentTemplate template,
@@ -177,6 +231,12 @@ public class UndertowBuildStep {
                 .build();
     }
 
+    @BuildStep
+    ReflectiveClassBuildItem registerAlpnReflection() {
+        // the JDK ALPN provider of Undertow looks these methods up reflectively, for HTTP/2 over TLS
+        return new ReflectiveClassBuildItem(true, false, SSLEngine.class, SSLParameters.class);
+    }
+
     @BuildStep
     HotDeploymentConfigFileBuildItem configFile() {
         return new HotDeploymentConfigFileBuildItem(WEB_XML);
@@ -221,29 +281,8 @@ public class UndertowBuildStep {
         return new WebMetadataBuildItem(result);
     }
 
-    @Record(STATIC_INIT)
-    @BuildStep()
-    public ServletDeploymentManagerBuildItem build(ApplicationArchivesBuildItem applicationArchivesBuildItem,
-            List<ServletBuildItem> servlets,
-            List<FilterBuildItem> filters,
-            List<ListenerBuildItem> listeners,
-            List<ServletInitParamBuildItem> initParams,
-            List<ServletContextAttributeBuildItem> contextParams,
-            UndertowDeploymentTemplate template, RecorderContext context,
-            List<ServletExtensionBuildItem> extensions,
-            BeanContainerBuildItem bc,
-            WebMetadataBuildItem webMetadataBuildItem,
-            BuildProducer<ObjectSubstitutionBuildItem> substitutions,
-            Consumer<ReflectiveClassBuildItem> reflectiveClasses,
-            LaunchModeBuildItem launchMode,
-            ShutdownContextBuildItem shutdownContext) throws Exception {
-
-        ObjectSubstitutionBuildItem.Holder holder = new ObjectSubstitutionBuildItem.Holder(ServletSecurityInfo.class,
-                ServletSecurityInfoProxy.class, ServletSecurityInfoSubstitution.class);
-        substitutions.produce(new ObjectSubstitutionBuildItem(holder));
-        reflectiveClasses.accept(new ReflectiveClassBuildItem(false, false, DefaultServlet.class.getName(),
-                "io.undertow.server.protocol.http.HttpRequestParser$$generated"));
-
+    @BuildStep
+    KnownPathsBuildItem scanKnownPaths(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws IOException {
         //we need to check for web resources in order to get welcome files to work
         //this kinda sucks
         Set<String> knownFiles = new HashSet<>();
@@ -268,9 +307,123 @@ public class UndertowBuildStep {
                 });
             }
         }
+        return new KnownPathsBuildItem(knownFiles, knownDirectories);
+    }
+
+    @BuildStep
+    StaticResourcesBuildItem processStaticResources(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<SubstrateResourceBuildItem> substrateResources) throws IOException {
+        Map<String, String> etags = new HashMap<>();
+        if (!staticResources.inMemory || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            return new StaticResourcesBuildItem(etags);
+        }
+        Map<String, Path> files = new HashMap<>();
+        Set<String> duplicates = new HashSet<>();
+        for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
+            Path resource = i.getChildPath("META-INF/resources");
+            if (resource == null || !Files.exists(resource)) {
+                continue;
+            }
+            List<Path> archiveFiles;
+            try (Stream<Path> stream = Files.walk(resource)) {
+                archiveFiles = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+            for (Path file : archiveFiles) {
+                String path = resource.relativize(file).toString().replace('\\', '/');
+                if (files.putIfAbsent(path, file) != null) {
+                    duplicates.add(path);
+                }
+            }
+        }
+        for (Map.Entry<String, Path> entry : files.entrySet()) {
+            String path = entry.getKey();
+            Path file = entry.getValue();
+            //the runtime class loader may resolve any of the copies, so their ETag and variant cannot be computed here
+            if (duplicates.contains(path) || Files.size(file) > staticResources.maxInMemorySize) {
+                continue;
+            }
+            byte[] data = Files.readAllBytes(file);
+            etags.put(path, etag(data));
+            if (staticResources.precompress && isCompressible(path) && !files.containsKey(path + ".gz")) {
+                byte[] compressed = gzip(data);
+                if (compressed.length < data.length) {
+                    String name = "META-INF/resources/" + path + ".gz";
+                    generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                    substrateResources.produce(new SubstrateResourceBuildItem(name));
+                    etags.put(path + ".gz", etag(compressed));
+                }
+            }
+        }
+        return new StaticResourcesBuildItem(etags);
+    }
+
+    private static boolean isCompressible(String path) {
+        int index = path.lastIndexOf('.');
+        if (index == -1) {
+            return false;
+        }
+        String type = MimeMappings.DEFAULT.getMimeType(path.substring(index + 1));
+        return type != null && (type.startsWith("text/") || COMPRESSIBLE_TYPES.contains(type));
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(data);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        RuntimeValue<DeploymentInfo> deployment = template.createDeployment("test", knownFiles, knownDirectories,
-                launchMode.getLaunchMode(), shutdownContext);
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    @Record(STATIC_INIT)
+    @BuildStep()
+    public ServletDeploymentManagerBuildItem build(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            List<ServletBuildItem> servlets,
+            List<FilterBuildItem> filters,
+            List<ListenerBuildItem> listeners,
+            List<ServletInitParamBuildItem> initParams,
+            List<ServletContextAttributeBuildItem> contextParams,
+            KnownPathsBuildItem knownPaths,
+            StaticResourcesBuildItem staticResourcesBuildItem,
+            UndertowDeploymentTemplate template, RecorderContext context,
+            List<ServletExtensionBuildItem> extensions,
+            BeanContainerBuildItem bc,
+            WebMetadataBuildItem webMetadataBuildItem,
+            BuildProducer<ObjectSubstitutionBuildItem> substitutions,
+            Consumer<ReflectiveClassBuildItem> reflectiveClasses,
+            LaunchModeBuildItem launchMode,
+            ShutdownContextBuildItem shutdownContext) throws Exception {
+
+        ObjectSubstitutionBuildItem.Holder holder = new ObjectSubstitutionBuildItem.Holder(ServletSecurityInfo.class,
+                ServletSecurityInfoProxy.class, ServletSecurityInfoSubstitution.class);
+        substitutions.produce(new ObjectSubstitutionBuildItem(holder));
+        reflectiveClasses.accept(new ReflectiveClassBuildItem(false, false, DefaultServlet.class.getName(),
+                "io.undertow.server.protocol.http.HttpRequestParser$$generated"));
+
+        RuntimeValue<DeploymentInfo> deployment = template.createDeployment("test", knownPaths.getKnownFiles(),
+                knownPaths.getKnownDirectories(), launchMode.getLaunchMode(), shutdownContext);
+        if (!staticResourcesBuildItem.getETags().isEmpty()) {
+            template.registerStaticResources(deployment, staticResourcesBuildItem.getETags(),
+                    staticResources.maxTotalInMemorySize);
+        }
 
         WebMetaData webMetaData = webMetadataBuildItem.getWebMetaData();
         final IndexView index = combinedIndexBuildItem.getIndex();
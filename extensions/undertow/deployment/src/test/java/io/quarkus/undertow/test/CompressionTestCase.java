@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.undertow.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CompressionTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CompressionServlet.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n" +
+                            "quarkus.http.compression.min-response-size=100\n" +
+                            "quarkus.http.compression.mime-types=text/plain\n"), "application.properties"));
+
+    static String body(int size) {
+        return new String(new char[size]).replace('\0', 'a');
+    }
+
+    @Test
+    public void testCompressedResponse() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/compression?size=1000&type=text/plain;charset=UTF-8").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(is(body(1000)));
+    }
+
+    @Test
+    public void testUncompressedResponses() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/compression?size=10&type=text/plain").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(body(10)));
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/compression?size=1000&type=image/png").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .when().get("/compression?size=1000&type=text/plain").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(body(1000)));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.undertow.test;
+
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourceMemoryLimitTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("small"), "META-INF/resources/small.txt")
+                    .addAsResource(new StringAsset("larger than the limit"), "META-INF/resources/large.txt")
+                    .addAsResource(new StringAsset("quarkus.static-resources.max-total-in-memory-size=10\n"
+                            + "quarkus.static-resources.precompress=false"), "application.properties"));
+
+    @Test
+    public void testResourcesOverTheLimit() {
+        RestAssured.when().get("/small.txt").then()
+                .statusCode(200)
+                .body(is("small"));
+        // served from the class path, as it does not fit in the memory left
+        RestAssured.when().get("/large.txt").then()
+                .statusCode(200)
+                .body(is("larger than the limit"));
+        RestAssured.when().get("/large.txt").then()
+                .statusCode(200)
+                .body(is("larger than the limit"));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.undertow.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourceTestCase {
+
+    static final String SCRIPT = new String(new char[100]).replace("\0", "console.log('static resource');\n");
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/app.js"));
+
+    @Test
+    public void testCompressedResource() {
+        RestAssured.given().header("Accept-Encoding", "gzip").when().get("/app.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .body(is(SCRIPT));
+        RestAssured.given().header("Accept-Encoding", "identity").when().get("/app.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", is(Integer.toString(SCRIPT.length())))
+                .body(is(SCRIPT));
+    }
+
+    @Test
+    public void testConditionalRequest() {
+        String etag = RestAssured.given().header("Accept-Encoding", "identity").when().get("/app.js").then()
+                .statusCode(200)
+                .extract().header("ETag");
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .when().get("/app.js").then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testRangeRequest() {
+        RestAssured.given().header("Accept-Encoding", "identity").header("Range", "bytes=8-18").when().get("/app.js")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", is("bytes 8-18/" + SCRIPT.length()))
+                .header("Content-Length", is("11"))
+                .body(is(SCRIPT.substring(8, 19)));
+        RestAssured.given().header("Accept-Encoding", "identity").header("Range", "bytes=-5").when().get("/app.js")
+                .then()
+                .statusCode(206)
+                .body(is(SCRIPT.substring(SCRIPT.length() - 5)));
+    }
+}
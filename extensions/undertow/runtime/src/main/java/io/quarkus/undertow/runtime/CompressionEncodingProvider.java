@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.undertow.runtime;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.xnio.channels.StreamSourceChannel;
+import org.xnio.conduits.AbstractStreamSinkConduit;
+import org.xnio.conduits.ConduitWritableByteChannel;
+import org.xnio.conduits.Conduits;
+import org.xnio.conduits.StreamSinkConduit;
+
+import io.quarkus.runtime.CompressionStatistics;
+import io.undertow.server.ConduitWrapper;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.ContentEncodingProvider;
+import io.undertow.util.ConduitFactory;
+
+/**
+ * A content encoding provider that counts the bytes of the responses before and after they are compressed by another
+ * provider, and records them in {@link CompressionStatistics} once the exchange is complete.
+ */
+public class CompressionEncodingProvider implements ContentEncodingProvider {
+
+    private final ContentEncodingProvider delegate;
+
+    public CompressionEncodingProvider(ContentEncodingProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ConduitWrapper<StreamSinkConduit> getResponseWrapper() {
+        ConduitWrapper<StreamSinkConduit> wrapper = delegate.getResponseWrapper();
+        return new ConduitWrapper<StreamSinkConduit>() {
+            @Override
+            public StreamSinkConduit wrap(ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange) {
+                CountingStreamSinkConduit compressed = new CountingStreamSinkConduit(factory.create());
+                CountingStreamSinkConduit uncompressed = new CountingStreamSinkConduit(
+                        wrapper.wrap(() -> compressed, exchange));
+                exchange.addExchangeCompleteListener((ex, nextListener) -> {
+                    CompressionStatistics.record(uncompressed.count, compressed.count);
+                    nextListener.proceed();
+                });
+                return uncompressed;
+            }
+        };
+    }
+
+    private static final class CountingStreamSinkConduit extends AbstractStreamSinkConduit<StreamSinkConduit> {
+
+        long count;
+
+        CountingStreamSinkConduit(StreamSinkConduit next) {
+            super(next);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int written = next.write(src);
+            count += written;
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offs, int len) throws IOException {
+            long written = next.write(srcs, offs, len);
+            count += written;
+            return written;
+        }
+
+        @Override
+        public int writeFinal(ByteBuffer src) throws IOException {
+            int written = next.writeFinal(src);
+            count += written;
+            return written;
+        }
+
+        @Override
+        public long writeFinal(ByteBuffer[] srcs, int offs, int len) throws IOException {
+            long written = next.writeFinal(srcs, offs, len);
+            count += written;
+            return written;
+        }
+
+        @Override
+        public long transferFrom(FileChannel src, long position, long count) throws IOException {
+            return src.transferTo(position, count, new ConduitWritableByteChannel(this));
+        }
+
+        @Override
+        public long transferFrom(StreamSourceChannel source, long count, ByteBuffer throughBuffer) throws IOException {
+            return Conduits.transfer(source, count, throughBuffer, this);
+        }
+    }
+}
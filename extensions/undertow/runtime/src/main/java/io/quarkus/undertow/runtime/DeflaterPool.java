@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.undertow.runtime;
+
+import java.util.ArrayDeque;
+import java.util.zip.Deflater;
+
+import io.undertow.util.ObjectPool;
+import io.undertow.util.PooledObject;
+
+/**
+ * A pool of {@link Deflater} instances kept per thread, so that the IO threads reuse their deflaters without
+ * contention. A deflater may be released by another thread than the one which allocated it, in which case it joins
+ * the pool of the releasing thread.
+ */
+public class DeflaterPool implements ObjectPool<Deflater> {
+
+    private static final int MAX_POOLED_PER_THREAD = 16;
+
+    private final int level;
+    private final boolean nowrap;
+    private final ThreadLocal<ArrayDeque<Deflater>> pool = new ThreadLocal<ArrayDeque<Deflater>>() {
+        @Override
+        protected ArrayDeque<Deflater> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    /**
+     * @param level the compression level
+     * @param nowrap {@code true} for the raw deflate format used by gzip, {@code false} for the zlib format
+     */
+    public DeflaterPool(int level, boolean nowrap) {
+        this.level = level;
+        this.nowrap = nowrap;
+    }
+
+    @Override
+    public PooledObject<Deflater> allocate() {
+        Deflater pooled = pool.get().poll();
+        Deflater deflater = pooled != null ? pooled : new Deflater(level, nowrap);
+        return new PooledObject<Deflater>() {
+            private boolean closed;
+
+            @Override
+            public Deflater getObject() {
+                if (closed) {
+                    throw new IllegalStateException("Deflater already released");
+                }
+                return deflater;
+            }
+
+            @Override
+            public void close() {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                ArrayDeque<Deflater> deflaters = pool.get();
+                if (deflaters.size() < MAX_POOLED_PER_THREAD) {
+                    deflater.reset();
+                    deflaters.push(deflater);
+                } else {
+                    deflater.end();
+                }
+            }
+        };
+    }
+}
@@ -22,6 +22,7 @@ import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.compression.ServerCompressionConfig;
 import io.quarkus.runtime.configuration.ssl.ServerSslConfig;
 
 /**
@@ -78,6 +79,20 @@ public class HttpConfig {
      */
     public ServerSslConfig ssl;
 
+    /**
+     * If HTTP/2 is enabled. It is negotiated with ALPN on the HTTPS listener, and with an upgrade or prior knowledge
+     * (h2c) on the HTTP listener. Undertow cannot enable it on the HTTPS listener alone, so it is disabled by default:
+     * a reverse proxy which forwards the h2c upgrade to the HTTP listener would let clients bypass its own access
+     * rules for the requests of the HTTP/2 connection.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean http2;
+
+    /**
+     * The response compression config
+     */
+    public ServerCompressionConfig compression;
+
     public int determinePort(LaunchMode launchMode) {
         return launchMode == LaunchMode.TEST ? testPort : port;
     }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.RangeAwareResource;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.ETag;
+import io.undertow.util.Headers;
+import io.undertow.util.MimeMappings;
+
+/**
+ * A resource manager that serves the static resources known at build time from direct buffers, with the strong ETags
+ * computed at build time. The content of a resource is read from the class path the first time it is requested, and
+ * is then kept in memory, as long as the total size of the resources in memory stays within the given limit. The
+ * resources which do not fit are served by the underlying resource manager.
+ * <p>
+ * The precompressed variant of a resource, if any, is a resource whose path has the {@code .gz} suffix. Requests for
+ * such a variant of a known resource that has none are answered without looking up the underlying resource manager.
+ */
+public class InMemoryResourceManager implements ResourceManager {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final ClassLoader classLoader;
+    private final String prefix;
+    private final Map<String, InMemoryResource> resources;
+    private final ResourceManager underlying;
+    private final AtomicLong available;
+
+    /**
+     * @param classLoader the class loader the resources are read from
+     * @param prefix the class path prefix of the resources, such as {@code META-INF/resources/}
+     * @param etags the strong ETags of the resources, keyed by path
+     * @param maxTotalSize the maximum number of bytes of direct memory used by the resources
+     * @param underlying the resource manager used for the other resources
+     */
+    public InMemoryResourceManager(ClassLoader classLoader, String prefix, Map<String, String> etags, long maxTotalSize,
+            ResourceManager underlying) {
+        this.classLoader = classLoader;
+        this.prefix = prefix;
+        this.underlying = underlying;
+        this.available = new AtomicLong(maxTotalSize);
+        Map<String, InMemoryResource> resources = new HashMap<>();
+        for (Map.Entry<String, String> entry : etags.entrySet()) {
+            String path = entry.getKey();
+            boolean compressed = path.endsWith(GZIP_SUFFIX) && etags.containsKey(stripSuffix(path));
+            boolean vary = compressed || etags.containsKey(path + GZIP_SUFFIX);
+            resources.put(path, new InMemoryResource(path, new ETag(false, entry.getValue()), vary));
+        }
+        this.resources = resources;
+    }
+
+    @Override
+    public Resource getResource(String path) throws IOException {
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        InMemoryResource resource = resources.get(path);
+        if (resource != null) {
+            if (resource.load()) {
+                return resource;
+            }
+            return underlying.getResource(path);
+        }
+        if (path.endsWith(GZIP_SUFFIX) && resources.containsKey(stripSuffix(path))) {
+            return null;
+        }
+        return underlying.getResource(path);
+    }
+
+    @Override
+    public boolean isResourceChangeListenerSupported() {
+        return false;
+    }
+
+    @Override
+    public void registerResourceChangeListener(ResourceChangeListener listener) {
+    }
+
+    @Override
+    public void removeResourceChangeListener(ResourceChangeListener listener) {
+    }
+
+    @Override
+    public void close() throws IOException {
+        underlying.close();
+    }
+
+    private static String stripSuffix(String path) {
+        return path.substring(0, path.length() - GZIP_SUFFIX.length());
+    }
+
+    private boolean reserve(int size) {
+        long current;
+        do {
+            current = available.get();
+            if (current < size) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - size));
+        return true;
+    }
+
+    private class InMemoryResource implements RangeAwareResource {
+
+        private final String path;
+        private final ETag etag;
+        private final boolean vary;
+        private volatile ByteBuffer content;
+        private volatile boolean unavailable;
+        private URL url;
+
+        private InMemoryResource(String path, ETag etag, boolean vary) {
+            this.path = path;
+            this.etag = etag;
+            this.vary = vary;
+        }
+
+        /**
+         * @return {@code true} if the content is in memory, {@code false} if the resource could not be found or does
+         *         not fit in the memory left
+         */
+        boolean load() throws IOException {
+            if (content != null) {
+                return true;
+            }
+            if (unavailable) {
+                return false;
+            }
+            synchronized (this) {
+                if (content == null && !unavailable) {
+                    URL url = classLoader.getResource(prefix + path);
+                    if (url == null) {
+                        unavailable = true;
+                        return false;
+                    }
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    try (InputStream in = url.openStream()) {
+                        byte[] buf = new byte[8192];
+                        int r;
+                        while ((r = in.read(buf)) > 0) {
+                            out.write(buf, 0, r);
+                        }
+                    }
+                    byte[] data = out.toByteArray();
+                    if (!reserve(data.length)) {
+                        unavailable = true;
+                        return false;
+                    }
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+                    buffer.put(data);
+                    buffer.flip();
+                    this.url = url;
+                    content = buffer.asReadOnlyBuffer();
+                }
+                return content != null;
+            }
+        }
+
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public Date getLastModified() {
+            return null;
+        }
+
+        @Override
+        public String getLastModifiedString() {
+            return null;
+        }
+
+        @Override
+        public ETag getETag() {
+            return etag;
+        }
+
+        @Override
+        public String getName() {
+            int i = path.lastIndexOf('/');
+            if (i == -1) {
+                return path;
+            }
+            return path.substring(i + 1);
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public List<Resource> list() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getContentType(MimeMappings mimeMappings) {
+            String fileName = getName();
+            int index = fileName.lastIndexOf('.');
+            if (index != -1 && index != fileName.length() - 1) {
+                return mimeMappings.getMimeType(fileName.substring(index + 1));
+            }
+            return null;
+        }
+
+        @Override
+        public void serve(Sender sender, HttpServerExchange exchange, IoCallback completionCallback) {
+            if (vary) {
+                exchange.getResponseHeaders().add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+            }
+            sender.send(content.duplicate(), completionCallback);
+        }
+
+        @Override
+        public void serveRange(Sender sender, HttpServerExchange exchange, long start, long end,
+                IoCallback completionCallback) {
+            if (vary) {
+                exchange.getResponseHeaders().add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+            }
+            ByteBuffer range = content.duplicate();
+            // the end of the range is inclusive
+            range.limit((int) end + 1);
+            range.position((int) start);
+            sender.send(range, completionCallback);
+        }
+
+        @Override
+        public boolean isRangeSupported() {
+            return true;
+        }
+
+        @Override
+        public Long getContentLength() {
+            return (long) content.remaining();
+        }
+
+        @Override
+        public String getCacheKey() {
+            return path;
+        }
+
+        @Override
+        public File getFile() {
+            return null;
+        }
+
+        @Override
+        public Path getFilePath() {
+            return null;
+        }
+
+        @Override
+        public File getResourceManagerRoot() {
+            return null;
+        }
+
+        @Override
+        public Path getResourceManagerRootPath() {
+            return null;
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+    }
+}
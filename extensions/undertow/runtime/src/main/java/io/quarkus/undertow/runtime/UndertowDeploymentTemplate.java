@@ -45,12 +45,19 @@ import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.annotations.Template;
+import io.quarkus.runtime.configuration.compression.ServerCompressionConfig;
 import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import io.undertow.predicate.Predicate;
 import io.undertow.server.HandlerWrapper;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.CanonicalPathHandler;
 import io.undertow.server.handlers.ResponseCodeHandler;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.DeflateEncodingProvider;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
 import io.undertow.server.handlers.resource.CachingResourceManager;
 import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.PathResourceManager;
@@ -72,6 +79,8 @@ import io.undertow.servlet.api.ServletStackTraces;
 import io.undertow.servlet.api.ThreadSetupHandler;
 import io.undertow.servlet.handlers.DefaultServlet;
 import io.undertow.servlet.handlers.ServletPathMatches;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
 
 /**
  * Provides the runtime methods to bootstrap Undertow. This class is present in the final uber-jar,
@@ -145,6 +154,21 @@ public class UndertowDeploymentTemplate {
         return new RuntimeValue<>(d);
     }
 
+    /**
+     * Serve the static resources processed at build time from memory, along with their gzip variants.
+     *
+     * @param deployment the deployment
+     * @param etags the ETags of the resources, and of their {@code .gz} variants, keyed by path
+     * @param maxTotalSize the maximum number of bytes of memory used by the resources
+     */
+    public void registerStaticResources(RuntimeValue<DeploymentInfo> deployment, Map<String, String> etags,
+            long maxTotalSize) {
+        DeploymentInfo d = deployment.getValue();
+        d.setResourceManager(new InMemoryResourceManager(d.getClassLoader(), "META-INF/resources/", etags, maxTotalSize,
+                d.getResourceManager()));
+        d.addPreCompressedResourceEncoding("gzip", ".gz");
+    }
+
     public static SocketAddress getHttpAddress() {
         for (Undertow.ListenerInfo info : undertow.getListenerInfo()) {
             if (info.getProtcol().equals("http") && info.getSslContext() == null) {
@@ -321,12 +345,16 @@ public class UndertowDeploymentTemplate {
             int sslPort = config.determineSslPort(launchMode);
             log.debugf("Starting Undertow on port %d", port);
             HttpHandler rootHandler = new CanonicalPathHandler(ROOT_HANDLER);
+            if (config.compression.enabled) {
+                rootHandler = new EncodingHandler(rootHandler, createContentEncodingRepository(config.compression));
+            }
             if (hotDeploymentWrapper != null) {
                 rootHandler = hotDeploymentWrapper.wrap(rootHandler);
             }
 
             Undertow.Builder builder = Undertow.builder()
                     .addHttpListener(port, config.host)
+                    .setServerOption(UndertowOptions.ENABLE_HTTP2, config.http2)
                     .setHandler(rootHandler);
             if (config.ioThreads.isPresent()) {
                 builder.setIoThreads(config.ioThreads.getAsInt());
@@ -349,6 +377,20 @@ public class UndertowDeploymentTemplate {
         }
     }
 
+    private static ContentEncodingRepository createContentEncodingRepository(ServerCompressionConfig compression) {
+        Predicate predicate = exchange -> {
+            HeaderMap headers = exchange.getResponseHeaders();
+            return !headers.contains(Headers.CONTENT_ENCODING)
+                    && compression.shouldCompress(headers.getFirst(Headers.CONTENT_TYPE),
+                            headers.getFirst(Headers.CONTENT_LENGTH));
+        };
+        return new ContentEncodingRepository()
+                .addEncodingHandler(Headers.GZIP.toString(), new CompressionEncodingProvider(
+                        new GzipEncodingProvider(new DeflaterPool(compression.level, true))), 50, predicate)
+                .addEncodingHandler(Headers.DEFLATE.toString(), new CompressionEncodingProvider(
+                        new DeflateEncodingProvider(new DeflaterPool(compression.level, false))), 10, predicate);
+    }
+
     public DeploymentManager bootServletContainer(RuntimeValue<DeploymentInfo> info, BeanContainer beanContainer) {
         try {
             ClassIntrospecter defaultVal = info.getValue().getClassIntrospecter();
@@ -410,6 +452,7 @@ public class UndertowDeploymentTemplate {
                                 if (requestContext.isActive()) {
                                     return action.call(exchange, context);
                                 } else {
+                                    // The state of the request context is only initialized if a request scoped bean is used
                                     try {
                                         requestContext.activate();
                                         return action.call(exchange, context);
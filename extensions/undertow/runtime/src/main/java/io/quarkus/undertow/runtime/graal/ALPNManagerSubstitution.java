@@ -22,13 +22,27 @@ import com.oracle.svm.core.annotate.Substitute;
 import com.oracle.svm.core.annotate.TargetClass;
 
 import io.undertow.protocols.alpn.ALPNProvider;
+import io.undertow.protocols.alpn.JDK9AlpnProvider;
 import io.undertow.protocols.alpn.OpenSSLAlpnProvider;
 
 @TargetClass(className = "io.undertow.protocols.alpn.ALPNManager")
 public final class ALPNManagerSubstitution {
 
+    /**
+     * The providers cannot be loaded with a service loader in native mode, so the OpenSSL provider is tried first, as
+     * it only supports its own engine, then the JDK one. If neither supports the engine, the connection falls back to
+     * HTTP/1.1.
+     */
     @Substitute
     public ALPNProvider getProvider(SSLEngine engine) {
-        return new OpenSSLAlpnProvider();
+        ALPNProvider provider = new OpenSSLAlpnProvider();
+        if (provider.isEnabled(engine)) {
+            return provider;
+        }
+        provider = new JDK9AlpnProvider();
+        if (provider.isEnabled(engine)) {
+            return provider;
+        }
+        return null;
     }
 }
@@ -48,6 +48,7 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.vertx.deployment.VertxBuildItem;
+import io.quarkus.vertx.runtime.VertxConfiguration;
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.RoutingExchange;
 import io.quarkus.vertx.web.runtime.RouterProducer;
@@ -122,7 +123,7 @@ class VertxWebProcessor {
             LaunchModeBuildItem launchMode,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
             ShutdownContextBuildItem shutdown,
-            VertxBuildItem vertx) {
+            VertxBuildItem vertx, VertxConfiguration vertxConfiguration) {
 
         ClassOutput classOutput = new ClassOutput() {
             @Override
@@ -140,7 +141,7 @@ class VertxWebProcessor {
             reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
         }
         template.configureRouter(vertx.getVertx(), beanContainer.getValue(), routeConfigs, vertxHttpConfiguration,
-                launchMode.getLaunchMode(),
+                vertxConfiguration, launchMode.getLaunchMode(),
                 shutdown);
     }
 
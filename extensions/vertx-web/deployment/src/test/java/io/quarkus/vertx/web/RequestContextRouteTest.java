@@ -0,0 +1,68 @@
+package io.quarkus.vertx.web;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class RequestContextRouteTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Counter.class, CountingRoutes.class));
+
+    @Test
+    public void testRequestContextActivated() {
+        RestAssured.when().get("/count").then().statusCode(200).body(is("1"));
+        RestAssured.when().get("/count").then().statusCode(200).body(is("1"));
+        RestAssured.when().get("/destroyed").then().statusCode(200).body(is("2"));
+    }
+
+    @RequestScoped
+    static class Counter {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private int value;
+
+        int incrementAndGet() {
+            return ++value;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    static class CountingRoutes {
+
+        @Inject
+        Counter counter;
+
+        @Route(path = "/count")
+        void count(RoutingExchange exchange) {
+            exchange.ok("" + counter.incrementAndGet());
+        }
+
+        @Route(path = "/destroyed")
+        void destroyed(RoutingExchange exchange) {
+            // This route does not use the request scoped bean
+            exchange.ok("" + Counter.DESTROYED.get());
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package io.quarkus.vertx.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.RoutingContext;
+
+public class ServerInstancesTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(ThreadBean.class)
+                    .addAsResource(new StringAsset("quarkus.vertx-http.instances=2"), "application.properties"));
+
+    @Test
+    public void testConnectionsAreSpreadOverInstances() {
+        Set<String> threads = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            threads.add(RestAssured.given().header("Connection", "close").when().get("/thread").then().statusCode(200)
+                    .extract().asString());
+        }
+        assertEquals(2, threads.size(), threads.toString());
+    }
+
+    static class ThreadBean {
+
+        @Route(path = "/thread")
+        void thread(RoutingContext context) {
+            context.response().setStatusCode(200).end(Thread.currentThread().getName());
+        }
+
+    }
+
+}
@@ -16,10 +16,13 @@
 
 package io.quarkus.vertx.web.runtime;
 
+import java.util.OptionalInt;
+
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.compression.ServerCompressionConfig;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 public class VertxHttpConfiguration {
@@ -42,6 +45,18 @@ public class VertxHttpConfiguration {
     @ConfigItem(defaultValue = "localhost")
     public String host;
 
+    /**
+     * The number of HTTP server instances, each of which handles its connections on its own event loop. This is set to
+     * the number of event loops, {@code quarkus.vertx.event-loops-pool-size}, if it is not provided
+     */
+    @ConfigItem
+    public OptionalInt instances;
+
+    /**
+     * The response compression config
+     */
+    public ServerCompressionConfig compression;
+
     public int determinePort(LaunchMode launchMode) {
         return launchMode == LaunchMode.TEST ? testPort : port;
     }
@@ -6,21 +6,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.enterprise.event.Event;
 
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.annotations.Template;
+import io.quarkus.runtime.configuration.compression.ServerCompressionConfig;
+import io.quarkus.vertx.runtime.VertxConfiguration;
 import io.quarkus.vertx.web.Route;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
@@ -40,13 +50,14 @@ public class VertxWebTemplate {
     private static volatile Handler<RoutingContext> hotReplacementHandler;
 
     private static volatile Router router;
-    private static volatile HttpServer server;
+    private static volatile String serverDeploymentId;
 
     public void configureRouter(RuntimeValue<Vertx> vertx, BeanContainer container, Map<String, List<Route>> routeHandlers,
-            VertxHttpConfiguration vertxHttpConfiguration, LaunchMode launchMode, ShutdownContext shutdown) {
+            VertxHttpConfiguration vertxHttpConfiguration, VertxConfiguration vertxConfiguration, LaunchMode launchMode,
+            ShutdownContext shutdown) {
 
-        List<io.vertx.ext.web.Route> appRoutes = initialize(vertx.getValue(), vertxHttpConfiguration, routeHandlers,
-                launchMode);
+        List<io.vertx.ext.web.Route> appRoutes = initialize(vertx.getValue(), vertxHttpConfiguration, vertxConfiguration,
+                routeHandlers, launchMode);
         container.instance(RouterProducer.class).initialize(router);
 
         if (launchMode == LaunchMode.DEVELOPMENT) {
@@ -62,18 +73,22 @@ public class VertxWebTemplate {
     }
 
     List<io.vertx.ext.web.Route> initialize(Vertx vertx, VertxHttpConfiguration vertxHttpConfiguration,
-            Map<String, List<Route>> routeHandlers,
+            VertxConfiguration vertxConfiguration, Map<String, List<Route>> routeHandlers,
             LaunchMode launchMode) {
         List<io.vertx.ext.web.Route> routes = new ArrayList<>();
         if (router == null) {
             router = Router.router(vertx);
+            if (vertxHttpConfiguration.compression.enabled) {
+                router.route().handler(createCompressionHandler(vertxHttpConfiguration.compression));
+            }
             router.route().handler(BodyHandler.create());
             if (hotReplacementHandler != null) {
                 router.route().blockingHandler(hotReplacementHandler);
             }
         }
+        ManagedContext requestContext = Arc.container().requestContext();
         for (Entry<String, List<Route>> entry : routeHandlers.entrySet()) {
-            Handler<RoutingContext> handler = createHandler(entry.getKey());
+            Handler<RoutingContext> handler = activateRequestContext(createHandler(entry.getKey()), requestContext);
             for (Route route : entry.getValue()) {
                 routes.add(addRoute(router, handler, route));
             }
@@ -82,20 +97,27 @@ public class VertxWebTemplate {
         Event<Object> event = Arc.container().beanManager().getEvent();
         event.select(Router.class).fire(router);
 
-        // Start the server
-        if (server == null) {
+        // Start the servers
+        if (serverDeploymentId == null) {
             CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
             // Http server configuration
             HttpServerOptions httpServerOptions = createHttpServerOptions(vertxHttpConfiguration, launchMode);
             event.select(HttpServerOptions.class).fire(httpServerOptions);
-            server = vertx.createHttpServer(httpServerOptions).requestHandler(router)
-                    .listen(ar -> {
+            // each instance runs on its own event loop, and the instances share the listening socket
+            int instances = vertxHttpConfiguration.instances.isPresent() ? vertxHttpConfiguration.instances.getAsInt()
+                    : eventLoopCount(vertxConfiguration);
+            vertx.deployVerticle(() -> new WebDeploymentVerticle(httpServerOptions, router),
+                    new DeploymentOptions().setInstances(instances), ar -> {
                         if (ar.succeeded()) {
+                            serverDeploymentId = ar.result();
                             // TODO log proper message
                             Timing.setHttpServer(String.format(
                                     "Listening on: http://%s:%s", httpServerOptions.getHost(), httpServerOptions.getPort()));
-                            latch.countDown();
+                        } else {
+                            failure.set(ar.cause());
                         }
+                        latch.countDown();
                     });
             try {
                 latch.await();
@@ -103,18 +125,53 @@ public class VertxWebTemplate {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException("Unable to start the HTTP server", e);
             }
+            if (failure.get() != null) {
+                throw new IllegalStateException("Unable to start the HTTP server", failure.get());
+            }
+            LOGGER.debugf("Started %d HTTP server instances", instances);
         }
         return routes;
     }
 
+    private static int eventLoopCount(VertxConfiguration vertxConfiguration) {
+        // the same pool size VertxTemplate configures the Vertx instance with
+        return vertxConfiguration.eventLoopsPoolSize.isPresent() ? vertxConfiguration.eventLoopsPoolSize.getAsInt()
+                : VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+    }
+
     private HttpServerOptions createHttpServerOptions(VertxHttpConfiguration vertxHttpConfiguration, LaunchMode launchMode) {
         // TODO other config properties
         HttpServerOptions options = new HttpServerOptions();
         options.setHost(vertxHttpConfiguration.host);
         options.setPort(vertxHttpConfiguration.determinePort(launchMode));
+        if (vertxHttpConfiguration.compression.enabled) {
+            options.setCompressionSupported(true);
+            options.setCompressionLevel(vertxHttpConfiguration.compression.level);
+        }
         return options;
     }
 
+    /**
+     * The server compresses every response by default, so the responses that should not be compressed are marked with
+     * the identity content encoding once their headers are known.
+     */
+    private Handler<RoutingContext> createCompressionHandler(ServerCompressionConfig compression) {
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext context) {
+                context.addHeadersEndHandler(v -> {
+                    MultiMap headers = context.response().headers();
+                    if (!headers.contains(HttpHeaders.CONTENT_ENCODING)
+                            && !compression.shouldCompress(headers.get(HttpHeaders.CONTENT_TYPE),
+                                    headers.get(HttpHeaders.CONTENT_LENGTH))) {
+                        headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                    }
+                });
+                context.next();
+            }
+        };
+    }
+
     private io.vertx.ext.web.Route addRoute(Router router, Handler<RoutingContext> handler, Route routeAnnotation) {
         io.vertx.ext.web.Route route;
         if (!routeAnnotation.regex().isEmpty()) {
@@ -160,6 +217,25 @@ public class VertxWebTemplate {
         return route;
     }
 
+    private Handler<RoutingContext> activateRequestContext(Handler<RoutingContext> handler, ManagedContext requestContext) {
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext context) {
+                if (requestContext.isActive()) {
+                    handler.handle(context);
+                } else {
+                    // The state of the request context is only initialized if a request scoped bean is used
+                    try {
+                        requestContext.activate();
+                        handler.handle(context);
+                    } finally {
+                        requestContext.terminate();
+                    }
+                }
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     private Handler<RoutingContext> createHandler(String handlerClassName) {
         try {
@@ -176,4 +252,31 @@ public class VertxWebTemplate {
         }
     }
 
+    private static class WebDeploymentVerticle extends AbstractVerticle {
+
+        private final HttpServerOptions options;
+        private final Router router;
+        private HttpServer httpServer;
+
+        private WebDeploymentVerticle(HttpServerOptions options, Router router) {
+            this.options = options;
+            this.router = router;
+        }
+
+        @Override
+        public void start(Future<Void> startFuture) {
+            httpServer = vertx.createHttpServer(options).requestHandler(router).listen(ar -> {
+                if (ar.succeeded()) {
+                    startFuture.complete();
+                } else {
+                    startFuture.fail(ar.cause());
+                }
+            });
+        }
+
+        @Override
+        public void stop(Future<Void> stopFuture) {
+            httpServer.close(stopFuture);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import io.quarkus.arc.processor.BeanProcessor.BuildContextImpl;
 import io.quarkus.arc.processor.BeanRegistrar.RegistrationContext;
 import io.quarkus.arc.processor.BuildExtension.BuildContext;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.arc.processor.InjectionPointInfo.InjectionPointKind;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.ResultHandle;
 import java.lang.annotation.Annotation;
@@ -28,6 +29,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -335,9 +337,68 @@ public class BeanDeployment {
             }
             LOGGER.debugf("Removed %s unused beans in %s ms", removable.size(), System.currentTimeMillis() - removalStart);
         }
+
+        // Assign dense indexes to request scoped beans so that the request context can store the instances in an array
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beans.stream().filter(b -> BuiltinScope.REQUEST.is(b.getScope()))
+                .sorted(Comparator.comparing(BeanInfo::getIdentifier)).collect(Collectors.toList())) {
+            bean.setRequestContextIndex(requestContextIndex++);
+        }
+
+        // Find the dependent beans that need to be registered with the parent creational context
+        Map<BeanInfo, Boolean> destructionRequired = new HashMap<>();
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+                bean.setDestructionRequired(isDestructionRequired(bean, destructionRequired));
+            }
+        }
+        for (InterceptorInfo interceptor : interceptors) {
+            interceptor.setDestructionRequired(isDestructionRequired(interceptor, destructionRequired));
+        }
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
+    private static boolean isDestructionRequired(BeanInfo bean, Map<BeanInfo, Boolean> results) {
+        Boolean result = results.get(bean);
+        if (result != null) {
+            return result;
+        }
+        // Assume destruction is required until the dependencies are inspected - this also breaks cycles
+        results.put(bean, Boolean.TRUE);
+        result = bean.isSynthetic() || !bean.hasDefaultDestroy();
+        if (!result) {
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                if (isDestructionRequired(injectionPoint, results)) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        if (!result) {
+            for (InterceptorInfo interceptor : bean.getBoundInterceptors()) {
+                if (isDestructionRequired(interceptor, results)) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        results.put(bean, result);
+        return result;
+    }
+
+    private static boolean isDestructionRequired(InjectionPointInfo injectionPoint, Map<BeanInfo, Boolean> results) {
+        if (injectionPoint.getKind() == InjectionPointKind.RESOURCE) {
+            // Resource instances are always registered with the parent creational context
+            return true;
+        }
+        BeanInfo resolved = injectionPoint.getResolvedBean();
+        if (resolved == null) {
+            // Dependent instances obtained via Instance are registered with the creational context of the injected bean
+            return BuiltinBean.resolve(injectionPoint) == BuiltinBean.INSTANCE;
+        }
+        return BuiltinScope.DEPENDENT.is(resolved.getScope()) && isDestructionRequired(resolved, results);
+    }
+
     static Map<DotName, ClassInfo> findQualifiers(IndexView index) {
         Map<DotName, ClassInfo> qualifiers = new HashMap<>();
         for (AnnotationInstance qualifier : index.getAnnotations(DotNames.QUALIFIER)) {
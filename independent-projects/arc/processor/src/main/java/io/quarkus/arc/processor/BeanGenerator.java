@@ -219,6 +219,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -295,6 +298,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -385,6 +391,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -458,6 +467,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -1323,9 +1335,11 @@ public class BeanGenerator extends AbstractGenerator {
                     MethodDescriptor.ofMethod(beanCreator.getClassName(), "create", providerTypeName, CreationalContext.class),
                     get.getThis(),
                     get.getMethodParam(0));
-            // CreationalContextImpl.addDependencyToParent(this,instance,ctx)
-            get.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_ADD_DEP_TO_PARENT, get.getThis(), instance,
-                    get.getMethodParam(0));
+            if (bean.isDestructionRequired()) {
+                // CreationalContextImpl.addDependencyToParent(this,instance,ctx)
+                get.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_ADD_DEP_TO_PARENT, get.getThis(), instance,
+                        get.getMethodParam(0));
+            }
             // return instance
             get.returnValue(instance);
         } else if (BuiltinScope.SINGLETON.is(bean.getScope())) {
@@ -1378,6 +1392,17 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.loadClass(bean.getScope().getDotName().toString()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class).setModifiers(ACC_PUBLIC);
+        getIndex.returnValue(getIndex.load(bean.getRequestContextIndex()));
+    }
+
     /**
      *
      * @param bean
@@ -85,6 +85,12 @@ public class BeanInfo {
 
     private final Map<String, Object> params;
 
+    // Assigned during deployment initialization, see BeanDeployment#init()
+    private int requestContextIndex = -1;
+
+    // Assigned during deployment initialization, see BeanDeployment#init()
+    private boolean destructionRequired = true;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers,
             List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer, Integer alternativePriority,
@@ -223,6 +229,32 @@ public class BeanInfo {
         return scope;
     }
 
+    /**
+     *
+     * @return the request context index if the bean is request scoped, or {@code -1}
+     */
+    int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
+    /**
+     * A {@link javax.enterprise.context.Dependent} instance is only registered with the parent creational context if its
+     * destruction may have an observable effect.
+     *
+     * @return {@code true} if an instance of this bean or any of its dependent objects may require destruction
+     */
+    boolean isDestructionRequired() {
+        return destructionRequired;
+    }
+
+    void setDestructionRequired(boolean destructionRequired) {
+        this.destructionRequired = destructionRequired;
+    }
+
     public Set<Type> getTypes() {
         return types;
     }
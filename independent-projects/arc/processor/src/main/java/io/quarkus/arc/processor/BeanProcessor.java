@@ -30,14 +30,21 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.logging.Logger;
 
 /**
@@ -81,6 +88,8 @@ public class BeanProcessor {
     private final boolean removeUnusedBeans;
     private final List<Predicate<BeanInfo>> unusedExclusions;
 
+    private final boolean parallelGeneration;
+
     private BeanProcessor(String name, IndexView index, Collection<BeanDefiningAnnotation> additionalBeanDefiningAnnotations,
             ResourceOutput output,
             boolean sharedAnnotationLiterals, ReflectionRegistration reflectionRegistration,
@@ -89,7 +98,8 @@ public class BeanProcessor {
             List<ContextRegistrar> contextRegistrars, List<DeploymentEnhancer> deploymentEnhancers,
             List<BeanDeploymentValidator> beanDeploymentValidators, Predicate<DotName> applicationClassPredicate,
             boolean unusedBeansRemovalEnabled,
-            List<Predicate<BeanInfo>> unusedExclusions, Map<DotName, Collection<AnnotationInstance>> additionalStereotypes) {
+            List<Predicate<BeanInfo>> unusedExclusions, Map<DotName, Collection<AnnotationInstance>> additionalStereotypes,
+            boolean parallelGeneration) {
         this.reflectionRegistration = reflectionRegistration;
         this.applicationClassPredicate = applicationClassPredicate;
         this.name = name;
@@ -100,6 +110,7 @@ public class BeanProcessor {
         this.resourceAnnotations = resourceAnnotations;
         this.removeUnusedBeans = unusedBeansRemovalEnabled;
         this.unusedExclusions = unusedExclusions;
+        this.parallelGeneration = parallelGeneration;
 
         // Initialize all build processors
         buildContext = new BuildContextImpl();
@@ -171,44 +182,89 @@ public class BeanProcessor {
         long start = System.currentTimeMillis();
         List<Resource> resources = new ArrayList<>();
 
+        // Each component is generated by a separate task - the results are always processed in the order of submission
+        List<GenerationTask> tasks = new ArrayList<>();
+
         // Generate interceptors
         for (InterceptorInfo interceptor : beanDeployment.getInterceptors()) {
-            for (Resource resource : interceptorGenerator.generate(interceptor, reflectionRegistration)) {
-                resources.add(resource);
-                if (SpecialType.INTERCEPTOR_BEAN.equals(resource.getSpecialType())) {
-                    beanToGeneratedName.put(interceptor, resource.getName());
+            tasks.add(new GenerationTask(reflection -> {
+                List<Resource> generated = new ArrayList<>();
+                for (Resource resource : interceptorGenerator.generate(interceptor, reflection)) {
+                    generated.add(resource);
+                    if (SpecialType.INTERCEPTOR_BEAN.equals(resource.getSpecialType())) {
+                        synchronized (beanToGeneratedName) {
+                            beanToGeneratedName.put(interceptor, resource.getName());
+                        }
+                    }
                 }
-            }
+                return generated;
+            }));
         }
 
         // Generate beans
         for (BeanInfo bean : beanDeployment.getBeans()) {
-            for (Resource resource : beanGenerator.generate(bean, reflectionRegistration)) {
-                resources.add(resource);
-                if (SpecialType.BEAN.equals(resource.getSpecialType())) {
-                    if (bean.getScope().isNormal()) {
-                        // Generate client proxy
-                        resources.addAll(
-                                clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(), reflectionRegistration));
-                    }
-                    beanToGeneratedName.put(bean, resource.getName());
-                    if (bean.isSubclassRequired()) {
-                        resources.addAll(
-                                subclassGenerator.generate(bean, resource.getFullyQualifiedName(), reflectionRegistration));
+            tasks.add(new GenerationTask(reflection -> {
+                List<Resource> generated = new ArrayList<>();
+                for (Resource resource : beanGenerator.generate(bean, reflection)) {
+                    generated.add(resource);
+                    if (SpecialType.BEAN.equals(resource.getSpecialType())) {
+                        if (bean.getScope().isNormal()) {
+                            // Generate client proxy
+                            generated.addAll(
+                                    clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(), reflection));
+                        }
+                        synchronized (beanToGeneratedName) {
+                            beanToGeneratedName.put(bean, resource.getName());
+                        }
+                        if (bean.isSubclassRequired()) {
+                            generated.addAll(
+                                    subclassGenerator.generate(bean, resource.getFullyQualifiedName(), reflection));
+                        }
                     }
                 }
-            }
+                return generated;
+            }));
         }
 
         // Generate observers
         for (ObserverInfo observer : beanDeployment.getObservers()) {
-            for (Resource resource : observerGenerator.generate(observer, reflectionRegistration)) {
-                resources.add(resource);
-                if (SpecialType.OBSERVER.equals(resource.getSpecialType())) {
-                    observerToGeneratedName.put(observer, resource.getName());
+            tasks.add(new GenerationTask(reflection -> {
+                List<Resource> generated = new ArrayList<>();
+                for (Resource resource : observerGenerator.generate(observer, reflection)) {
+                    generated.add(resource);
+                    if (SpecialType.OBSERVER.equals(resource.getSpecialType())) {
+                        synchronized (observerToGeneratedName) {
+                            observerToGeneratedName.put(observer, resource.getName());
+                        }
+                    }
+                }
+                return generated;
+            }));
+        }
+
+        if (parallelGeneration && tasks.size() > 1) {
+            for (Future<Void> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while generating components", e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException("Unable to generate components", e.getCause());
                 }
             }
+        } else {
+            tasks.forEach(GenerationTask::run);
         }
+        for (GenerationTask task : tasks) {
+            resources.addAll(task.getResources());
+            task.replay(reflectionRegistration);
+        }
+        LOGGER.debugf("Generated %s components in %s ms [parallel=%s]", tasks.size(), System.currentTimeMillis() - start,
+                Boolean.valueOf(parallelGeneration));
 
         privateMembers.log();
 
@@ -254,6 +310,8 @@ public class BeanProcessor {
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> removalExclusions = new ArrayList<>();
 
+        private boolean parallelGeneration = true;
+
         private Predicate<DotName> applicationClassPredicate = new Predicate<DotName>() {
             @Override
             public boolean test(DotName dotName) {
@@ -367,11 +425,23 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * If set to true the beans, interceptors, observers, client proxies and subclasses are generated concurrently using
+         * the common {@link ForkJoinPool}. The generated resources are always written in the same order.
+         *
+         * @param parallelGeneration
+         * @return self
+         */
+        public Builder setParallelGeneration(boolean parallelGeneration) {
+            this.parallelGeneration = parallelGeneration;
+            return this;
+        }
+
         public BeanProcessor build() {
             return new BeanProcessor(name, index, additionalBeanDefiningAnnotations, output, sharedAnnotationLiterals,
                     reflectionRegistration, annotationTransformers, resourceAnnotations, beanRegistrars, contextRegistrars,
                     deploymentEnhancers, beanDeploymentValidators, applicationClassPredicate, removeUnusedBeans,
-                    removalExclusions, additionalStereotypes);
+                    removalExclusions, additionalStereotypes, parallelGeneration);
         }
 
     }
@@ -422,7 +492,7 @@ public class BeanProcessor {
             this.fwkDescriptions = LOGGER.isDebugEnabled() ? new ArrayList<>() : null;
         }
 
-        void add(boolean isApplicationClass, String description) {
+        synchronized void add(boolean isApplicationClass, String description) {
             if (isApplicationClass) {
                 appDescriptions.add(description);
             } else if (fwkDescriptions != null) {
@@ -430,7 +500,7 @@ public class BeanProcessor {
             }
         }
 
-        private void log() {
+        private synchronized void log() {
             // Log application problems
             if (!appDescriptions.isEmpty()) {
                 int limit = LOGGER.isDebugEnabled() ? Integer.MAX_VALUE : 3;
@@ -453,4 +523,57 @@ public class BeanProcessor {
 
     }
 
+    /**
+     * Generates the resources for a single component. Reflection registrations are recorded and replayed later so that the
+     * registration order does not depend on the order of execution.
+     */
+    static class GenerationTask implements Callable<Void>, ReflectionRegistration {
+
+        private final Function<ReflectionRegistration, Collection<Resource>> generator;
+
+        private final List<Object> registrations;
+
+        private Collection<Resource> resources;
+
+        GenerationTask(Function<ReflectionRegistration, Collection<Resource>> generator) {
+            this.generator = generator;
+            this.registrations = new ArrayList<>();
+        }
+
+        @Override
+        public Void call() {
+            resources = generator.apply(this);
+            return null;
+        }
+
+        void run() {
+            call();
+        }
+
+        Collection<Resource> getResources() {
+            return resources;
+        }
+
+        void replay(ReflectionRegistration reflectionRegistration) {
+            for (Object registration : registrations) {
+                if (registration instanceof MethodInfo) {
+                    reflectionRegistration.registerMethod((MethodInfo) registration);
+                } else {
+                    reflectionRegistration.registerField((FieldInfo) registration);
+                }
+            }
+        }
+
+        @Override
+        public void registerMethod(MethodInfo methodInfo) {
+            registrations.add(methodInfo);
+        }
+
+        @Override
+        public void registerField(FieldInfo fieldInfo) {
+            registrations.add(fieldInfo);
+        }
+
+    }
+
 }
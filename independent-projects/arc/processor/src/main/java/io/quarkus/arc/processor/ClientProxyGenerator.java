@@ -18,13 +18,11 @@ package io.quarkus.arc.processor;
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
+import io.quarkus.arc.ClientProxies;
 import io.quarkus.arc.ClientProxy;
-import io.quarkus.arc.CreationalContextImpl;
-import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
-import io.quarkus.gizmo.AssignableResultHandle;
-import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.DescriptorUtils;
 import io.quarkus.gizmo.FieldCreator;
@@ -40,7 +38,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
-import javax.enterprise.context.ContextNotActiveException;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
@@ -98,8 +95,17 @@ public class ClientProxyGenerator extends AbstractGenerator {
         FieldCreator beanField = clientProxy.getFieldCreator("bean", DescriptorUtils.extToInt(beanClassName))
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
 
+        FieldDescriptor cachedInstanceField = null;
+        if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+            // The contextual instance of an application scoped bean can be cached
+            cachedInstanceField = clientProxy.getFieldCreator("cachedInstance", DescriptorUtils.extToInt(providerTypeName))
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE).getFieldDescriptor();
+            implementClearCachedInstance(clientProxy, cachedInstanceField);
+            implementSetCachedInstance(clientProxy, cachedInstanceField, providerTypeName);
+        }
+
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor());
-        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor(), cachedInstanceField, bean);
         implementGetContextualInstance(clientProxy, providerTypeName);
 
         for (MethodInfo method : getDelegatingMethods(bean)) {
@@ -171,30 +177,43 @@ public class ClientProxyGenerator extends AbstractGenerator {
         creator.returnValue(null);
     }
 
-    void implementDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField) {
+    void implementDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField,
+            FieldDescriptor cachedInstanceField, BeanInfo bean) {
         MethodCreator creator = clientProxy.getMethodCreator("delegate", providerTypeName).setModifiers(Modifier.PRIVATE);
-        // Arc.container()
-        ResultHandle container = creator.invokeStaticMethod(MethodDescriptors.ARC_CONTAINER);
-        // bean.getScope()
-        ResultHandle bean = creator.readInstanceField(beanField, creator.getThis());
-        ResultHandle scope = creator
-                .invokeInterfaceMethod(MethodDescriptor.ofMethod(InjectableBean.class, "getScope", Class.class), bean);
-        // getContext()
-        ResultHandle context = creator.invokeInterfaceMethod(MethodDescriptors.ARC_CONTAINER_GET_ACTIVE_CONTEXT,
-                container, scope);
-        BytecodeCreator inactiveBranch = creator.ifNull(context).trueBranch();
-        ResultHandle exception = inactiveBranch.newInstance(
-                MethodDescriptor.ofConstructor(ContextNotActiveException.class, String.class),
-                inactiveBranch.invokeVirtualMethod(MethodDescriptors.OBJECT_TO_STRING, scope));
-        inactiveBranch.throwException(exception);
-        AssignableResultHandle ret = creator.createVariable(Object.class);
-        creator.assign(ret, creator.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET_IF_PRESENT, context, bean));
-        BytecodeCreator isNullBranch = creator.ifNull(ret).trueBranch();
-        // Create a new contextual instance - new CreationalContextImpl<>()
-        ResultHandle creationContext = isNullBranch.newInstance(MethodDescriptor.ofConstructor(CreationalContextImpl.class));
-        isNullBranch.assign(ret,
-                isNullBranch.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET, context, bean, creationContext));
-        creator.returnValue(ret);
+        ResultHandle beanHandle = creator.readInstanceField(beanField, creator.getThis());
+        ResultHandle delegate;
+        if (cachedInstanceField != null) {
+            // Foo cached = this.cachedInstance; if (cached != null) return cached;
+            ResultHandle cached = creator.readInstanceField(cachedInstanceField, creator.getThis());
+            creator.ifNull(cached).falseBranch().returnValue(cached);
+            // ClientProxies.getApplicationScopedDelegate(bean, this) - the instance is cached by the container
+            delegate = creator.checkCast(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+                    beanHandle, creator.getThis()), providerTypeName);
+        } else if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            // ClientProxies.getDelegate(bean, ClientProxies.REQUEST_SCOPE)
+            delegate = creator.checkCast(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE_BUILTIN,
+                    beanHandle, creator.load(ClientProxies.REQUEST_SCOPE)), providerTypeName);
+        } else {
+            // Custom scope - ClientProxies.getDelegate(bean)
+            delegate = creator.checkCast(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE, beanHandle),
+                    providerTypeName);
+        }
+        creator.returnValue(delegate);
+    }
+
+    void implementClearCachedInstance(ClassCreator clientProxy, FieldDescriptor cachedInstanceField) {
+        MethodCreator creator = clientProxy.getMethodCreator("arc_clearCachedInstance", void.class)
+                .setModifiers(Modifier.PUBLIC);
+        creator.writeInstanceField(cachedInstanceField, creator.getThis(), creator.loadNull());
+        creator.returnValue(null);
+    }
+
+    void implementSetCachedInstance(ClassCreator clientProxy, FieldDescriptor cachedInstanceField, String providerTypeName) {
+        MethodCreator creator = clientProxy.getMethodCreator("arc_setCachedInstance", void.class, Object.class)
+                .setModifiers(Modifier.PUBLIC);
+        creator.writeInstanceField(cachedInstanceField, creator.getThis(),
+                creator.checkCast(creator.getMethodParam(0), providerTypeName));
+        creator.returnValue(null);
     }
 
     void implementGetContextualInstance(ClassCreator clientProxy, String providerTypeName) {
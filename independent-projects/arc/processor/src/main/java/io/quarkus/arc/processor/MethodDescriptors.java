@@ -18,6 +18,7 @@ package io.quarkus.arc.processor;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ClientProxies;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.CreationalContextImpl;
 import io.quarkus.arc.InjectableBean;
@@ -132,7 +133,8 @@ final class MethodDescriptors {
 
     static final MethodDescriptor INVOCATION_CONTEXT_AROUND_INVOKE = MethodDescriptor.ofMethod(InvocationContextImpl.class,
             "aroundInvoke",
-            InvocationContextImpl.class, Object.class, Method.class, Object[].class, List.class, Function.class, Set.class);
+            InvocationContextImpl.class, Object.class, Method.class, Object[].class, InterceptorInvocation[].class,
+            Function.class, Set.class);
 
     static final MethodDescriptor INVOCATION_CONTEXT_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(InvocationContextImpl.class,
             "aroundConstruct",
@@ -167,6 +169,15 @@ final class MethodDescriptors {
     static final MethodDescriptor CONTEXT_GET_IF_PRESENT = MethodDescriptor.ofMethod(Context.class, "get", Object.class,
             Contextual.class);
 
+    static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class, "getDelegate",
+            Object.class, InjectableBean.class);
+
+    static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE_BUILTIN = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getDelegate", Object.class, InjectableBean.class, int.class);
+
+    static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getApplicationScopedDelegate", Object.class, InjectableBean.class, ClientProxy.class);
+
     static final MethodDescriptor LAZY_VALUE_GET = MethodDescriptor.ofMethod(LazyValue.class, "get", Object.class);
 
     private MethodDescriptors() {
@@ -36,6 +36,7 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -45,6 +46,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -186,34 +188,25 @@ public class SubclassGenerator extends AbstractGenerator {
             }
         }
 
-        // Init intercepted methods and interceptor chains
-        // private final Map<String, List<InvocationContextImpl.InterceptorInvocation>> interceptorChains
-        FieldCreator interceptorChainsField = subclass.getFieldCreator("interceptorChains", Map.class.getName())
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
-        // interceptorChains = new HashMap<>()
-        constructor.writeInstanceField(interceptorChainsField.getFieldDescriptor(), constructor.getThis(),
-                constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
-        ResultHandle interceptorChainsHandle = constructor.readInstanceField(interceptorChainsField.getFieldDescriptor(),
-                constructor.getThis());
-        // private final Map<String, Method> methods
-        FieldCreator methodsField = subclass.getFieldCreator("methods", DescriptorUtils.extToInt(Map.class.getName()))
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
-        constructor.writeInstanceField(methodsField.getFieldDescriptor(), constructor.getThis(),
-                constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
-        ResultHandle methodsHandle = constructor.readInstanceField(methodsField.getFieldDescriptor(), constructor.getThis());
-
+        // Init intercepted methods, interceptor chains and bindings
+        // The chain of each intercepted method is built once and stored in a pre-sized array
         int methodIdx = 1;
         for (Entry<MethodInfo, InterceptionInfo> entry : bean.getInterceptedMethods().entrySet()) {
             String methodId = "m" + methodIdx++;
             MethodInfo method = entry.getKey();
-            ResultHandle methodIdHandle = constructor.load(methodId);
-
-            // First create interceptor chains
-            // List<InvocationContextImpl.InterceptorInvocation> m1Chain = new ArrayList<>()
-            ResultHandle chainHandle = constructor.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
             InterceptionInfo interceptedMethod = entry.getValue();
-            for (InterceptorInfo interceptor : interceptedMethod.interceptors) {
-                // m1Chain.add(InvocationContextImpl.InterceptorInvocation.aroundInvoke(p3,p3.get(CreationalContextImpl.child(ctx))))
+
+            // First create the interceptor chain
+            // private final InvocationContextImpl.InterceptorInvocation[] m1Chain
+            FieldCreator chainField = subclass.getFieldCreator(methodId + "Chain", InterceptorInvocation[].class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // InvocationContextImpl.InterceptorInvocation[] m1Chain = new InvocationContextImpl.InterceptorInvocation[1]
+            ResultHandle chainHandle = constructor.newArray(InterceptorInvocation.class,
+                    constructor.load(interceptedMethod.interceptors.size()));
+            for (ListIterator<InterceptorInfo> iterator = interceptedMethod.interceptors.listIterator(); iterator.hasNext();) {
+                int position = iterator.nextIndex();
+                InterceptorInfo interceptor = iterator.next();
+                // m1Chain[0] = InvocationContextImpl.InterceptorInvocation.aroundInvoke(p3,p3.get(CreationalContextImpl.child(ctx)))
                 ResultHandle creationalContext = constructor.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_CHILD,
                         creationalContextHandle);
                 ResultHandle interceptorInstance = constructor.invokeInterfaceMethod(
@@ -222,11 +215,14 @@ public class SubclassGenerator extends AbstractGenerator {
                 ResultHandle interceptionInvocation = constructor.invokeStaticMethod(
                         MethodDescriptors.INTERCEPTOR_INVOCATION_AROUND_INVOKE,
                         interceptorToResultHandle.get(interceptor), interceptorInstance);
-                constructor.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, chainHandle, interceptionInvocation);
+                constructor.writeArrayValue(chainHandle, position, interceptionInvocation);
             }
-            // interceptorChains.put("m1", m1Chain)
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, interceptorChainsHandle, methodIdHandle, chainHandle);
-            // methods.put("m1", Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class))
+            constructor.writeInstanceField(chainField.getFieldDescriptor(), constructor.getThis(), chainHandle);
+
+            // private final Method m1Method
+            FieldCreator methodField = subclass.getFieldCreator(methodId + "Method", Method.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // m1Method = Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class)
             ResultHandle[] paramsHandles = new ResultHandle[3];
             paramsHandles[0] = constructor.loadClass(providerTypeName);
             paramsHandles[1] = constructor.load(method.name());
@@ -242,25 +238,38 @@ public class SubclassGenerator extends AbstractGenerator {
             }
             ResultHandle methodHandle = constructor.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD,
                     paramsHandles);
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, methodsHandle, methodIdHandle, methodHandle);
+            constructor.writeInstanceField(methodField.getFieldDescriptor(), constructor.getThis(), methodHandle);
+
+            // Interceptor bindings
+            // private final Set<Annotation> m1Bindings
+            FieldCreator bindingsField = subclass.getFieldCreator(methodId + "Bindings", Set.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            ResultHandle bindingsHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+            for (AnnotationInstance binding : interceptedMethod.bindings) {
+                // Create annotation literals first
+                ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
+                constructor.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
+                        annotationLiterals.process(constructor, classOutput, bindingClass, binding,
+                                Types.getPackageName(subclass.getClassName())));
+            }
+            // m1Bindings = Collections.unmodifiableSet(bindings)
+            constructor.writeInstanceField(bindingsField.getFieldDescriptor(), constructor.getThis(),
+                    constructor.invokeStaticMethod(MethodDescriptors.COLLECTIONS_UNMODIFIABLE_SET, bindingsHandle));
 
             // Needed when running on substrate VM
             reflectionRegistration.registerMethod(method);
 
             // Finally create the forwarding method
-            createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
-                    interceptorChainsField.getFieldDescriptor(),
-                    methodsField.getFieldDescriptor(), interceptedMethod);
+            createForwardingMethod(bean, method, subclass, providerTypeName, chainField.getFieldDescriptor(),
+                    methodField.getFieldDescriptor(), bindingsField.getFieldDescriptor());
         }
 
         constructor.returnValue(null);
         return preDestroysField != null ? preDestroysField.getFieldDescriptor() : null;
     }
 
-    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
-            ClassCreator subclass,
-            String providerTypeName, FieldDescriptor interceptorChainsField, FieldDescriptor methodsField,
-            InterceptionInfo interceptedMethod) {
+    private void createForwardingMethod(BeanInfo bean, MethodInfo method, ClassCreator subclass, String providerTypeName,
+            FieldDescriptor chainField, FieldDescriptor methodField, FieldDescriptor bindingsField) {
 
         MethodCreator forwardMethod = subclass.getMethodCreator(MethodDescriptor.of(method));
 
@@ -295,7 +304,7 @@ public class SubclassGenerator extends AbstractGenerator {
         }
 
         // InvocationContext
-        // (java.lang.String) InvocationContextImpl.aroundInvoke(this, methods.get("m1"), params, interceptorChains.get("m1"), forward).proceed()
+        // (java.lang.String) InvocationContextImpl.aroundInvoke(this, m1Method, params, m1Chain, forward, m1Bindings).proceed()
         TryBlock tryCatch = forwardMethod.tryBlock();
         // catch exceptions declared on the original method
         boolean addCatchRuntimeException = true;
@@ -325,25 +334,11 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(RuntimeException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContextImpl.aroundInvoke(this, methods.get("m1"), params, interceptorChains.get("m1"), forward)
-        ResultHandle methodIdHandle = tryCatch.load(methodId);
-        ResultHandle interceptedMethodHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(methodsField, tryCatch.getThis()), methodIdHandle);
-        ResultHandle interceptedChainHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(interceptorChainsField, tryCatch.getThis()), methodIdHandle);
-        // Interceptor bindings
-        ResultHandle bindingsHandle = tryCatch.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
-        for (AnnotationInstance binding : interceptedMethod.bindings) {
-            // Create annotation literals first
-            ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
-            tryCatch.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
-                    annotationLiterals.process(tryCatch, classOutput, bindingClass, binding,
-                            Types.getPackageName(subclass.getClassName())));
-        }
-
+        // InvocationContextImpl.aroundInvoke(this, m1Method, params, m1Chain, forward, m1Bindings)
         ResultHandle invocationContext = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXT_AROUND_INVOKE,
-                tryCatch.getThis(),
-                interceptedMethodHandle, paramsHandle, interceptedChainHandle, func.getInstance(), bindingsHandle);
+                tryCatch.getThis(), tryCatch.readInstanceField(methodField, tryCatch.getThis()), paramsHandle,
+                tryCatch.readInstanceField(chainField, tryCatch.getThis()), func.getInstance(),
+                tryCatch.readInstanceField(bindingsField, tryCatch.getThis()));
         // InvocationContext.proceed()
         ResultHandle ret = tryCatch.invokeInterfaceMethod(MethodDescriptors.INVOCATION_CONTEXT_PROCEED, invocationContext);
         tryCatch.returnValue(superResult != null ? ret : null);
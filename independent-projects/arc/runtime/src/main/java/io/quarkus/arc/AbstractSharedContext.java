@@ -25,24 +25,28 @@ import javax.enterprise.context.spi.CreationalContext;
 
 abstract class AbstractSharedContext implements InjectableContext {
 
-    private final ComputingCache<Key<?>, ContextInstanceHandle<?>> instances;
+    private final ComputingCache<Contextual<?>, ContextInstanceHandle<?>> instances;
 
-    @SuppressWarnings("rawtypes")
     public AbstractSharedContext() {
-        this.instances = new ComputingCache<>(
-                key -> createInstanceHandle((InjectableBean) key.contextual, key.creationalContext));
+        this.instances = new ComputingCache<>();
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        return (T) instances.getValue(new Key<>(contextual, creationalContext)).get();
+        // Contextuals are used as keys directly so that the lookup of an existing instance does not allocate
+        ContextInstanceHandle<?> handle = instances.getValueIfPresent(contextual);
+        if (handle == null) {
+            handle = instances.computeIfAbsent(contextual,
+                    () -> createInstanceHandle((InjectableBean) contextual, creationalContext));
+        }
+        return (T) handle.get();
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
-        ContextInstanceHandle<?> handle = instances.getValueIfPresent(new Key<>(contextual, null));
+        ContextInstanceHandle<?> handle = instances.getValueIfPresent(contextual);
         return handle != null ? (T) handle.get() : null;
     }
 
@@ -58,7 +62,7 @@ abstract class AbstractSharedContext implements InjectableContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        ContextInstanceHandle<?> handle = instances.remove(new Key<>(contextual, null));
+        ContextInstanceHandle<?> handle = instances.remove(contextual);
         if (handle != null) {
             handle.destroy();
         }
@@ -86,53 +90,4 @@ abstract class AbstractSharedContext implements InjectableContext {
         return new ContextInstanceHandleImpl(bean, bean.create(ctx), ctx);
     }
 
-    private static class Key<T> {
-
-        private Contextual<T> contextual;
-
-        private CreationalContext<T> creationalContext;
-
-        public Key(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-            this.contextual = contextual;
-            this.creationalContext = creationalContext;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + ((contextual == null) ? 0 : contextual.hashCode());
-            return result;
-        }
-
-        @SuppressWarnings("rawtypes")
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (!(obj instanceof Key)) {
-                return false;
-            }
-            Key other = (Key) obj;
-            if (contextual == null) {
-                if (other.contextual != null) {
-                    return false;
-                }
-            } else if (!contextual.equals(other.contextual)) {
-                return false;
-            }
-            return true;
-        }
-
-        @Override
-        public String toString() {
-            return "Key [contextual=" + contextual + "]";
-        }
-
-    }
-
 }
@@ -17,12 +17,66 @@
 package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.Contextual;
 
 class ApplicationContext extends AbstractSharedContext {
 
+    // Client proxies that cache the contextual instance of a bean
+    private final ConcurrentMap<ClientProxy, Contextual<?>> cachingProxies = new ConcurrentHashMap<>();
+
+    // Incremented once a contextual instance is destroyed, before the cached instances are cleared
+    private final AtomicLong epoch = new AtomicLong();
+
     @Override
     public Class<? extends Annotation> getScope() {
         return ApplicationScoped.class;
     }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        super.destroy(contextual);
+        epoch.incrementAndGet();
+        for (Entry<ClientProxy, Contextual<?>> entry : cachingProxies.entrySet()) {
+            if (entry.getValue().equals(contextual)) {
+                cachingProxies.remove(entry.getKey());
+                entry.getKey().arc_clearCachedInstance();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        super.destroy();
+        epoch.incrementAndGet();
+        for (ClientProxy proxy : cachingProxies.keySet()) {
+            cachingProxies.remove(proxy);
+            proxy.arc_clearCachedInstance();
+        }
+    }
+
+    /**
+     * A client proxy that cached an instance looked up before the epoch changed must clear it, as the instance may have been
+     * destroyed concurrently.
+     *
+     * @return the current epoch
+     */
+    long getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * The cached instance of the given proxy is cleared when the contextual instance is destroyed.
+     *
+     * @param proxy
+     * @param contextual
+     */
+    void registerCachingProxy(ClientProxy proxy, Contextual<?> contextual) {
+        cachingProxies.put(proxy, contextual);
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package io.quarkus.arc;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -46,6 +47,21 @@ public final class Arc {
         return INSTANCE.get();
     }
 
+    /**
+     * Sets the default executor used for asynchronous event delivery.
+     *
+     * @param executor
+     * @throws IllegalStateException If the container is not initialized
+     * @see ArcContainer#getExecutor()
+     */
+    public static void setExecutor(Executor executor) {
+        ArcContainerImpl container = INSTANCE.get();
+        if (container == null) {
+            throw new IllegalStateException("ArC container not initialized");
+        }
+        container.setExecutor(executor);
+    }
+
     public static void shutdown() {
         if (INSTANCE.get() != null) {
             synchronized (INSTANCE) {
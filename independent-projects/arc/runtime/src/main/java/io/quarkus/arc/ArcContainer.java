@@ -19,6 +19,7 @@ package io.quarkus.arc;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.inject.spi.BeanManager;
@@ -126,4 +127,14 @@ public interface ArcContainer {
      */
     BeanManager beanManager();
 
+    /**
+     * The executor is used for asynchronous event delivery if no executor is specified in
+     * {@link javax.enterprise.event.NotificationOptions}. {@link java.util.concurrent.ForkJoinPool#commonPool()} is used by
+     * default.
+     *
+     * @return the default executor
+     * @see Arc#setExecutor(Executor)
+     */
+    Executor getExecutor();
+
 }
@@ -18,17 +18,25 @@ package io.quarkus.arc;
 
 import io.quarkus.arc.ArcCDIProvider.ArcCDI;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -37,6 +45,7 @@ import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.context.Destroyed;
 import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Default;
@@ -58,6 +67,8 @@ class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
 
+    private static final Annotation[] DEFAULT_QUALIFIERS = new Annotation[] { Default.Literal.INSTANCE };
+
     private final String id;
 
     private final AtomicBoolean running;
@@ -69,15 +80,33 @@ class ArcContainerImpl implements ArcContainer {
     // List of "ambiguous" contexts that could share a scope
     private final List<InjectableContext> contexts;
     private final ManagedContext requestContext;
-    private final InjectableContext applicationContext;
+    private final ApplicationContext applicationContext;
     private final InjectableContext singletonContext;
 
+    // Contexts indexed by scope index - the first slots are reserved for the built-in scopes, see ClientProxies
+    private final InjectableContext[][] contextTable;
+    private final Map<Class<? extends Annotation>, Integer> scopeIndexes;
+
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // Lookups with no qualifiers are cached separately so that no resolvable needs to be allocated
+    private final ComputingCache<Type, Set<InjectableBean<?>>> resolvedDefault;
+    // Beans indexed by the raw types of their bean types
+    private final Map<Class<?>, List<InjectableBean<?>>> beansByRawType;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
+    // Observer positions indexed by the raw observed type; the observers that cannot be indexed are always considered
+    private final Map<Class<?>, BitSet> observersByRawType;
+    private final BitSet unindexedObservers;
+    // Notifiers shared by all Event instances
+    private final ComputingCache<NotifierKey, EventImpl.Notifier<?>> notifiers;
+    // Qualifiers of the observer methods - only the notifiers for these qualifiers are shared
+    private final Set<Annotation> observerQualifiers;
+
     private final List<ResourceReferenceProvider> resourceProviders;
 
+    private volatile Executor executor;
+
     public ArcContainerImpl() {
         id = UUID.randomUUID().toString();
         running = new AtomicBoolean(true);
@@ -87,9 +116,7 @@ class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -116,9 +143,58 @@ class ArcContainerImpl implements ArcContainer {
         }
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
+        requestContext = new RequestContext(getRequestContextSize(beans));
+        contexts.add(0, requestContext);
+
+        // Build the scope-to-context table
+        Map<Class<? extends Annotation>, List<InjectableContext>> contextsByScope = new LinkedHashMap<>();
+        contextsByScope.put(ApplicationScoped.class, Collections.singletonList(applicationContext));
+        contextsByScope.put(Singleton.class, Collections.singletonList(singletonContext));
+        contextsByScope.put(RequestScoped.class, new ArrayList<>());
+        for (InjectableContext context : contexts) {
+            contextsByScope.computeIfAbsent(context.getScope(), s -> new ArrayList<>()).add(context);
+        }
+        contextTable = new InjectableContext[contextsByScope.size()][];
+        scopeIndexes = new HashMap<>();
+        int index = 0;
+        for (Entry<Class<? extends Annotation>, List<InjectableContext>> entry : contextsByScope.entrySet()) {
+            contextTable[index] = entry.getValue().toArray(new InjectableContext[0]);
+            scopeIndexes.put(entry.getKey(), index++);
+        }
+
         resolved = new ComputingCache<>(this::resolve);
+        resolvedDefault = new ComputingCache<>(type -> resolve(new Resolvable(type, DEFAULT_QUALIFIERS)));
+        beansByRawType = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            for (Type type : bean.getTypes()) {
+                Class<?> rawType = getIndexedRawType(type);
+                if (rawType != null) {
+                    List<InjectableBean<?>> indexed = beansByRawType.computeIfAbsent(rawType, t -> new ArrayList<>());
+                    if (indexed.isEmpty() || indexed.get(indexed.size() - 1) != bean) {
+                        indexed.add(bean);
+                    }
+                }
+            }
+        }
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+
+        observersByRawType = new HashMap<>();
+        unindexedObservers = new BitSet();
+        observerQualifiers = new HashSet<>();
+        for (int i = 0; i < observers.size(); i++) {
+            observerQualifiers.addAll(observers.get(i).getObservedQualifiers());
+            Class<?> rawType = getObservedRawType(observers.get(i).getObservedType());
+            if (rawType != null) {
+                observersByRawType.computeIfAbsent(rawType, t -> new BitSet()).set(i);
+            } else {
+                unindexedObservers.set(i);
+            }
+        }
+        notifiers = new ComputingCache<>(key -> EventImpl.createNotifier(Types.getRawType(key.eventType), key.eventType,
+                key.qualifiers, this));
+
+        executor = ForkJoinPool.commonPool();
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -146,18 +222,35 @@ class ArcContainerImpl implements ArcContainer {
         } else if (Singleton.class.equals(scopeType)) {
             return singletonContext;
         }
-        List<InjectableContext> active = new ArrayList<>();
-        for (InjectableContext context : contexts) {
-            if (scopeType.equals(context.getScope()) && context.isActive()) {
-                active.add(context);
+        Integer scopeIndex = scopeIndexes.get(scopeType);
+        return scopeIndex != null ? getActiveContext(scopeIndex) : null;
+    }
+
+    ApplicationContext getApplicationContext() {
+        requireRunning();
+        return applicationContext;
+    }
+
+    /**
+     * This method does not allocate and should be used on hot paths, e.g. in client proxies.
+     *
+     * @param scopeIndex
+     * @return the active context for the given scope index or {@code null}
+     * @see ClientProxies
+     */
+    InjectableContext getActiveContext(int scopeIndex) {
+        requireRunning();
+        InjectableContext active = null;
+        for (InjectableContext context : contextTable[scopeIndex]) {
+            if (context.isActive()) {
+                if (active != null) {
+                    throw new IllegalArgumentException(
+                            "More than one context object for the given scope: " + Arrays.asList(active, context));
+                }
+                active = context;
             }
         }
-        if (active.isEmpty()) {
-            return null;
-        } else if (active.size() == 1) {
-            return active.get(0);
-        }
-        throw new IllegalArgumentException("More than one context object for the given scope: " + active);
+        return active;
     }
 
     @Override
@@ -240,6 +333,15 @@ class ArcContainerImpl implements ArcContainer {
         return BeanManagerImpl.INSTANCE.get();
     }
 
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    void setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -273,12 +375,31 @@ class ArcContainerImpl implements ArcContainer {
             contexts.clear();
             beans.clear();
             resolved.clear();
+            resolvedDefault.clear();
+            beansByRawType.clear();
+            notifiers.clear();
             observers.clear();
+            observerQualifiers.clear();
+            observersByRawType.clear();
+            unindexedObservers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
         }
     }
 
+    private static int getRequestContextSize(List<InjectableBean<?>> beans) {
+        Set<Integer> indexes = new HashSet<>();
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0 && !indexes.add(index)) {
+                // Multiple deployments - indexes are not unique and cannot be used
+                LOGGER.debugf("Request context index %s is not unique - request context indexes are ignored", index);
+                return 0;
+            }
+        }
+        return indexes.size();
+    }
+
     InstanceHandle<Object> getResource(Type type, Set<Annotation> annotations) {
         for (ResourceReferenceProvider resourceProvider : resourceProviders) {
             InstanceHandle<Object> ret = resourceProvider.get(type, annotations);
@@ -318,10 +439,7 @@ class ArcContainerImpl implements ArcContainer {
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(requiredType, qualifiers);
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -427,7 +545,11 @@ class ArcContainerImpl implements ArcContainer {
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        // A bean can only match if one of its bean types has the same raw type as the required type
+        Class<?> rawType = getIndexedRawType(resolvable.requiredType);
+        List<InjectableBean<?>> candidates = rawType != null ? beansByRawType.getOrDefault(rawType, Collections.emptyList())
+                : beans;
+        for (InjectableBean<?> bean : candidates) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -445,6 +567,24 @@ class ArcContainerImpl implements ArcContainer {
         return matching;
     }
 
+    /**
+     *
+     * @param type
+     * @return the raw type used to index the beans or {@code null} if the type cannot be used to narrow the set of beans
+     */
+    private static Class<?> getIndexedRawType(Type type) {
+        Class<?> rawType = null;
+        if (type instanceof Class) {
+            rawType = (Class<?>) type;
+        } else if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class) {
+            rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (rawType == null || rawType.isArray()) {
+            return null;
+        }
+        return Types.boxedClass(rawType);
+    }
+
     private static int compareAlternativeBeans(InjectableBean<?> bean1, InjectableBean<?> bean2) {
         // The highest priority wins
         Integer priority2 = bean2.getDeclaringBean() != null ? bean2.getDeclaringBean().getAlternativePriority()
@@ -460,8 +600,20 @@ class ArcContainerImpl implements ArcContainer {
             return Collections.emptyList();
         }
         Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
+        // Only consider the observers whose raw observed type is a raw type of an event type
+        BitSet candidates = (BitSet) unindexedObservers.clone();
+        for (Type type : eventTypes) {
+            Class<?> rawType = Types.getRawType(type);
+            if (rawType != null) {
+                BitSet indexed = observersByRawType.get(rawType);
+                if (indexed != null) {
+                    candidates.or(indexed);
+                }
+            }
+        }
         List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
-        for (InjectableObserverMethod<?> observer : observers) {
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            InjectableObserverMethod<?> observer = observers.get(i);
             if (EventTypeAssignabilityRules.matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
                         || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
@@ -474,6 +626,54 @@ class ArcContainerImpl implements ArcContainer {
         return resolvedObservers;
     }
 
+    /**
+     * The notifiers are cached per container so that all {@link javax.enterprise.event.Event} instances, including the ones
+     * obtained via {@link javax.enterprise.event.Event#select(Annotation...)} or
+     * {@link BeanManager#fireEvent(Object, Annotation...)}, share the resolved observers.
+     *
+     * @param eventType
+     * @param qualifiers The set must not be modified afterwards
+     * @return the notifier for the given event type and qualifiers
+     */
+    @SuppressWarnings("unchecked")
+    <T> EventImpl.Notifier<T> getNotifier(Type eventType, Set<Annotation> qualifiers) {
+        if (isObserverQualifiers(qualifiers)) {
+            return (EventImpl.Notifier<T>) notifiers.getValue(new NotifierKey(eventType, qualifiers));
+        }
+        // Arbitrary qualifier instances, e.g. literals created for Event.select(), would make the cache grow without bound
+        return EventImpl.createNotifier(Types.getRawType(eventType), eventType, qualifiers, this);
+    }
+
+    private boolean isObserverQualifiers(Set<Annotation> qualifiers) {
+        for (Annotation qualifier : qualifiers) {
+            if (!qualifier.annotationType().equals(Any.class) && !qualifier.annotationType().equals(Default.class)
+                    && !observerQualifiers.contains(qualifier)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @param observedType
+     * @return the raw type used to index an observer or {@code null} if the observer may match any event type
+     */
+    private static Class<?> getObservedRawType(Type observedType) {
+        Type type = Types.boxedType(observedType);
+        Class<?> rawType = null;
+        if (type instanceof Class) {
+            rawType = (Class<?>) type;
+        } else if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class) {
+            rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (rawType == null || Object.class.equals(rawType) || rawType.isArray()) {
+            // Type variables, Object and arrays are matched against all event types
+            return null;
+        }
+        return rawType;
+    }
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -506,7 +706,7 @@ class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            return resolvedDefault.getValue(requiredType);
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
@@ -583,4 +783,37 @@ class ArcContainerImpl implements ArcContainer {
 
     }
 
+    private static final class NotifierKey {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        final int hashCode;
+
+        NotifierKey(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.hashCode = 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotifierKey)) {
+                return false;
+            }
+            NotifierKey other = (NotifierKey) obj;
+            return eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
 }
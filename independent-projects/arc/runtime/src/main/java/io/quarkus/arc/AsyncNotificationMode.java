@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc;
+
+import java.util.Arrays;
+import java.util.Locale;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Async observer notification modes. The mode can be selected for a specific event via
+ * {@link NotificationOptions#of(String, Object)} and the {@link #OPTION_KEY} key, e.g.
+ *
+ * <pre>
+ * event.fireAsync(payload, NotificationOptions.of(AsyncNotificationMode.OPTION_KEY, AsyncNotificationMode.PARALLEL));
+ * </pre>
+ *
+ * The value may be either an {@link AsyncNotificationMode} or its name.
+ */
+public enum AsyncNotificationMode {
+
+    /**
+     * Async observers are notified one after another on a single thread. This is the default mode.
+     */
+    SERIAL,
+    /**
+     * Each async observer is notified in a separate task submitted to the executor. The resulting
+     * {@link java.util.concurrent.CompletionStage} completes when all the observers have been notified.
+     */
+    PARALLEL;
+
+    public static final String OPTION_KEY = "arc.async.notification.mode";
+
+    static AsyncNotificationMode from(NotificationOptions options) {
+        Object value = options.get(OPTION_KEY);
+        if (value == null) {
+            return SERIAL;
+        }
+        if (value instanceof AsyncNotificationMode) {
+            return (AsyncNotificationMode) value;
+        }
+        String name = value.toString().toUpperCase(Locale.ROOT);
+        for (AsyncNotificationMode mode : values()) {
+            if (mode.name().equals(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid value of the " + OPTION_KEY + " notification option: " + value
+                + ", allowed values are " + Arrays.toString(values()));
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc;
+
+import javax.enterprise.context.ContextNotActiveException;
+
+/**
+ * Static helpers invoked by the generated client proxies. This class is not considered a public API.
+ *
+ * @author Martin Kouba
+ */
+public final class ClientProxies {
+
+    /**
+     * Build-time scope index of {@link javax.enterprise.context.ApplicationScoped}.
+     */
+    public static final int APPLICATION_SCOPE = 0;
+
+    /**
+     * Build-time scope index of {@link javax.inject.Singleton}.
+     */
+    public static final int SINGLETON_SCOPE = 1;
+
+    /**
+     * Build-time scope index of {@link javax.enterprise.context.RequestScoped}.
+     */
+    public static final int REQUEST_SCOPE = 2;
+
+    private ClientProxies() {
+    }
+
+    /**
+     * Lookup the contextual instance for a bean with a built-in scope. The scope index is resolved at build time so that no
+     * scope-to-context resolution is needed at runtime.
+     *
+     * @param bean
+     * @param scopeIndex
+     * @return the contextual instance
+     */
+    public static <T> T getDelegate(InjectableBean<T> bean, int scopeIndex) {
+        return getDelegate(bean, ArcContainerImpl.instance().getActiveContext(scopeIndex));
+    }
+
+    /**
+     * Lookup the contextual instance for an {@link javax.enterprise.context.ApplicationScoped} bean and cache it in the given
+     * client proxy. The cached instance is cleared when the contextual instance is destroyed.
+     *
+     * @param bean
+     * @param proxy
+     * @return the contextual instance
+     * @see ClientProxy#arc_clearCachedInstance()
+     */
+    public static <T> T getApplicationScopedDelegate(InjectableBean<T> bean, ClientProxy proxy) {
+        ApplicationContext context = ArcContainerImpl.instance().getApplicationContext();
+        long epoch = context.getEpoch();
+        T instance = getDelegate(bean, context);
+        proxy.arc_setCachedInstance(instance);
+        context.registerCachingProxy(proxy, bean);
+        // A destruction that started after the lookup may have missed the registration
+        if (context.getEpoch() != epoch) {
+            proxy.arc_clearCachedInstance();
+        }
+        return instance;
+    }
+
+    /**
+     * Lookup the contextual instance for a bean with a custom scope.
+     *
+     * @param bean
+     * @return the contextual instance
+     */
+    public static <T> T getDelegate(InjectableBean<T> bean) {
+        return getDelegate(bean, ArcContainerImpl.instance().getActiveContext(bean.getScope()));
+    }
+
+    private static <T> T getDelegate(InjectableBean<T> bean, InjectableContext context) {
+        if (context == null) {
+            throw new ContextNotActiveException(bean.getScope().toString());
+        }
+        T instance = context.get(bean);
+        if (instance == null) {
+            // Create a new contextual instance
+            instance = context.get(bean, new CreationalContextImpl<>());
+        }
+        return instance;
+    }
+
+}
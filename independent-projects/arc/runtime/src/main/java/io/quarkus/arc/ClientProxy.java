@@ -25,4 +25,20 @@ public interface ClientProxy {
 
     Object getContextualInstance();
 
+    /**
+     * Clears the contextual instance cached by the client proxy, if any. This method is called by the container when the
+     * contextual instance is destroyed. The prefix is used to avoid conflicts with the methods of the bean types.
+     */
+    default void arc_clearCachedInstance() {
+    }
+
+    /**
+     * Caches the contextual instance in the client proxy, if supported. This method is only called by the container, which
+     * makes sure that an instance destroyed concurrently does not remain cached.
+     *
+     * @param instance
+     */
+    default void arc_setCachedInstance(Object instance) {
+    }
+
 }
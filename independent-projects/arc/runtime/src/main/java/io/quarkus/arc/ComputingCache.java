@@ -24,6 +24,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +41,13 @@ public class ComputingCache<K, V> {
 
     private final Function<K, LazyValue<V>> function;
 
+    /**
+     * The values can be only computed via {@link #computeIfAbsent(Object, Supplier)}.
+     */
+    public ComputingCache() {
+        this(null);
+    }
+
     public ComputingCache(Function<K, V> computingFunction) {
         this.map = new ConcurrentHashMap<>();
         this.function = new CacheFunction(computingFunction);
@@ -57,6 +65,24 @@ public class ComputingCache<K, V> {
         return value.get();
     }
 
+    /**
+     *
+     * @param key
+     * @param supplier Used to compute the value if no value is associated with the given key
+     * @return the value
+     */
+    public V computeIfAbsent(K key, Supplier<V> supplier) {
+        LazyValue<V> value = map.get(key);
+        if (value == null) {
+            value = new LazyValue<>(supplier);
+            LazyValue<V> previous = map.putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return value.get();
+    }
+
     public V getValueIfPresent(K key) {
         LazyValue<V> value = map.get(key);
         return value != null ? value.getIfPresent() : null;
@@ -31,8 +31,9 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.enterprise.context.RequestScoped;
 import javax.enterprise.event.Event;
@@ -44,6 +45,7 @@ import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.ObserverMethod;
 import javax.enterprise.util.TypeLiteral;
+import org.jboss.logging.Logger;
 
 /**
  *
@@ -55,9 +57,7 @@ class EventImpl<T> implements Event<T> {
 
     private static final int DEFAULT_CACHE_CAPACITY = 4;
 
-    private static final Executor DEFAULT_EXECUTOR = ForkJoinPool.commonPool();
-
-    private static final NotificationOptions DEFAULT_OPTIONS = NotificationOptions.ofExecutor(DEFAULT_EXECUTOR);
+    private static final Logger LOGGER = Logger.getLogger(EventImpl.class.getName());
 
     private final HierarchyDiscovery injectionPointTypeHierarchy;
 
@@ -87,48 +87,76 @@ class EventImpl<T> implements Event<T> {
 
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event) {
-        return fireAsync(event, DEFAULT_OPTIONS);
+        return fireAsync(event, null, AsyncNotificationMode.SERIAL);
     }
 
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
         Objects.requireNonNull(options);
+        return fireAsync(event, options.getExecutor(), AsyncNotificationMode.from(options));
+    }
 
+    private <U extends T> CompletionStage<U> fireAsync(U event, Executor executor, AsyncNotificationMode mode) {
         @SuppressWarnings("unchecked")
         Notifier<U> notifier = (Notifier<U>) getNotifier(event.getClass());
 
-        Executor executor = options.getExecutor();
         if (executor == null) {
-            executor = DEFAULT_EXECUTOR;
+            executor = ArcContainerImpl.instance().getExecutor();
         }
 
         if (notifier.isEmpty()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (mode == AsyncNotificationMode.PARALLEL) {
+            List<ObserverMethod<? super U>> asyncObservers = notifier.getAsyncObserverMethods();
+            if (asyncObservers.size() > 1) {
+                return fireAsyncParallel(event, notifier, asyncObservers, executor);
+            }
+        }
+
         Supplier<U> notifyLogic = () -> {
             ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler();
             notifier.notify(event, exceptionHandler, true);
             handleExceptions(exceptionHandler);
             return event;
         };
+        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(() -> withinRequest(notifyLogic), executor);
+        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+    }
+
+    private <U extends T> CompletionStage<U> fireAsyncParallel(U event, Notifier<U> notifier,
+            List<ObserverMethod<? super U>> asyncObservers, Executor executor) {
+        // Each observer is notified in a separate task; all the exceptions are collected and reported at the end
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new CopyOnWriteArrayList<>());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[asyncObservers.size()];
+        for (int i = 0; i < futures.length; i++) {
+            ObserverMethod<? super U> observerMethod = asyncObservers.get(i);
+            futures[i] = CompletableFuture.supplyAsync(() -> withinRequest(() -> {
+                notifier.notify(event, observerMethod, exceptionHandler);
+                return null;
+            }), executor);
+        }
+        CompletableFuture<U> completableFuture = CompletableFuture.allOf(futures).thenApply(ignored -> {
+            handleExceptions(exceptionHandler);
+            return event;
+        });
+        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+    }
 
-        Supplier<U> withinRequest = () -> {
-            ArcContainer container = Arc.container();
-            if (container.getActiveContext(RequestScoped.class) != null) {
+    private static <U> U withinRequest(Supplier<U> notifyLogic) {
+        ArcContainer container = Arc.container();
+        if (container.getActiveContext(RequestScoped.class) != null) {
+            return notifyLogic.get();
+        } else {
+            ManagedContext requestContext = container.requestContext();
+            try {
+                requestContext.activate();
                 return notifyLogic.get();
-            } else {
-                ManagedContext requestContext = container.requestContext();
-                try {
-                    requestContext.activate();
-                    return notifyLogic.get();
-                } finally {
-                    requestContext.terminate();
-                }
+            } finally {
+                requestContext.terminate();
             }
-        };
-        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(withinRequest, executor);
-        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+        }
     }
 
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
@@ -161,8 +189,8 @@ class EventImpl<T> implements Event<T> {
     }
 
     private Notifier<? super T> createNotifier(Class<?> runtimeType) {
-        Type eventType = getEventType(runtimeType);
-        return createNotifier(runtimeType, eventType, qualifiers, ArcContainerImpl.unwrap(Arc.container()));
+        // Notifiers are shared across all event instances with the same event type and qualifiers
+        return ArcContainerImpl.unwrap(Arc.container()).getNotifier(getEventType(runtimeType), qualifiers);
     }
 
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
@@ -224,6 +252,8 @@ class EventImpl<T> implements Event<T> {
 
         private final EventMetadata eventMetadata;
 
+        private volatile List<ObserverMethod<? super T>> asyncObserverMethods;
+
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
@@ -240,14 +270,46 @@ class EventImpl<T> implements Event<T> {
                 EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
                 for (ObserverMethod<? super T> observerMethod : observerMethods) {
                     if (observerMethod.isAsync() == async) {
-                        try {
-                            observerMethod.notify(eventContext);
-                        } catch (Throwable e) {
-                            exceptionHandler.handle(e);
-                        }
+                        notify(eventContext, observerMethod, exceptionHandler, async);
+                    }
+                }
+            }
+        }
+
+        void notify(T event, ObserverMethod<? super T> observerMethod, ObserverExceptionHandler exceptionHandler) {
+            notify(new EventContextImpl<>(event, eventMetadata), observerMethod, exceptionHandler, true);
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void notify(EventContext eventContext, ObserverMethod observerMethod, ObserverExceptionHandler exceptionHandler,
+                boolean async) {
+            // Per-observer timing is only measured for async observers and only if debug logging is enabled
+            boolean timed = async && LOGGER.isDebugEnabled();
+            long start = timed ? System.nanoTime() : 0;
+            try {
+                observerMethod.notify(eventContext);
+            } catch (Throwable e) {
+                exceptionHandler.handle(e);
+            } finally {
+                if (timed) {
+                    LOGGER.debugf("Async observer %s notified in %s ms", observerMethod,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }
+        }
+
+        List<ObserverMethod<? super T>> getAsyncObserverMethods() {
+            List<ObserverMethod<? super T>> asyncObserverMethods = this.asyncObserverMethods;
+            if (asyncObserverMethods == null) {
+                asyncObserverMethods = new ArrayList<>();
+                for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                    if (observerMethod.isAsync()) {
+                        asyncObserverMethods.add(observerMethod);
                     }
                 }
+                this.asyncObserverMethods = asyncObserverMethods;
             }
+            return asyncObserverMethods;
         }
 
         boolean isEmpty() {
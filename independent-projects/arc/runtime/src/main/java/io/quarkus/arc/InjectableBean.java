@@ -112,4 +112,14 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return null;
     }
 
+    /**
+     * The index is assigned at build time and is unique for a specific deployment. It is used by the request context to store
+     * the contextual instances in an array.
+     *
+     * @return the index if the bean is {@link javax.enterprise.context.RequestScoped}, or {@code -1}
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
 }
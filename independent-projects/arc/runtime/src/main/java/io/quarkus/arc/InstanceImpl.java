@@ -24,6 +24,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.UnsatisfiedResolutionException;
@@ -46,6 +48,9 @@ class InstanceImpl<T> implements Instance<T> {
 
     private final Set<InjectableBean<?>> beans;
 
+    // Results of select(Class) with no additional qualifiers
+    private volatile ConcurrentMap<Class<?>, InstanceImpl<?>> selected;
+
     InstanceImpl(Type type, Set<Annotation> qualifiers, CreationalContextImpl<?> creationalContext) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
@@ -87,13 +92,21 @@ class InstanceImpl<T> implements Instance<T> {
 
     @Override
     public Instance<T> select(Annotation... qualifiers) {
+        if (qualifiers.length == 0) {
+            return this;
+        }
         Set<Annotation> newQualifiers = new HashSet<>(this.qualifiers);
         Collections.addAll(newQualifiers, qualifiers);
         return new InstanceImpl<>(type, newQualifiers, creationalContext);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <U extends T> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+        if (qualifiers.length == 0) {
+            return (Instance<U>) getSelected().computeIfAbsent(subtype,
+                    t -> new InstanceImpl<>(t, this.qualifiers, creationalContext));
+        }
         Set<Annotation> newQualifiers = new HashSet<>(this.qualifiers);
         Collections.addAll(newQualifiers, qualifiers);
         return new InstanceImpl<>(subtype, newQualifiers, creationalContext);
@@ -136,6 +149,19 @@ class InstanceImpl<T> implements Instance<T> {
         return instance;
     }
 
+    private ConcurrentMap<Class<?>, InstanceImpl<?>> getSelected() {
+        ConcurrentMap<Class<?>, InstanceImpl<?>> selected = this.selected;
+        if (selected == null) {
+            synchronized (this) {
+                selected = this.selected;
+                if (selected == null) {
+                    this.selected = selected = new ConcurrentHashMap<>(4);
+                }
+            }
+        }
+        return selected;
+    }
+
     private Set<InjectableBean<?>> beans() {
         return beans != null ? beans : resolve();
     }
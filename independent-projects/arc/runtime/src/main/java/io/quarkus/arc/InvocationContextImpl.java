@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.enterprise.inject.spi.InterceptionType;
@@ -49,7 +48,7 @@ public class InvocationContextImpl implements InvocationContext {
      * @return a new {@link javax.interceptor.AroundInvoke} invocation context
      */
     public static InvocationContextImpl aroundInvoke(Object target, Method method, Object[] args,
-            List<InterceptorInvocation> chain,
+            InterceptorInvocation[] chain,
             Function<InvocationContext, Object> aroundInvokeForward, Set<Annotation> interceptorBindings) {
         return new InvocationContextImpl(target, method, null, args, chain, aroundInvokeForward, null, interceptorBindings);
     }
@@ -63,7 +62,7 @@ public class InvocationContextImpl implements InvocationContext {
      */
     public static InvocationContextImpl postConstruct(Object target, List<InterceptorInvocation> chain,
             Set<Annotation> interceptorBindings) {
-        return new InvocationContextImpl(target, null, null, null, chain, null, null, interceptorBindings);
+        return new InvocationContextImpl(target, null, null, null, toArray(chain), null, null, interceptorBindings);
     }
 
     /**
@@ -75,7 +74,7 @@ public class InvocationContextImpl implements InvocationContext {
      */
     public static InvocationContextImpl preDestroy(Object target, List<InterceptorInvocation> chain,
             Set<Annotation> interceptorBindings) {
-        return new InvocationContextImpl(target, null, null, null, chain, null, null, interceptorBindings);
+        return new InvocationContextImpl(target, null, null, null, toArray(chain), null, null, interceptorBindings);
     }
 
     /**
@@ -88,11 +87,15 @@ public class InvocationContextImpl implements InvocationContext {
     public static InvocationContextImpl aroundConstruct(Constructor<?> constructor, List<InterceptorInvocation> chain,
             Supplier<Object> aroundConstructForward,
             Set<Annotation> interceptorBindings) {
-        return new InvocationContextImpl(null, null, constructor, null, chain, null, aroundConstructForward,
+        return new InvocationContextImpl(null, null, constructor, null, toArray(chain), null, aroundConstructForward,
                 interceptorBindings);
     }
 
-    private final AtomicReference<Object> target;
+    private static InterceptorInvocation[] toArray(List<InterceptorInvocation> chain) {
+        return chain.toArray(new InterceptorInvocation[chain.size()]);
+    }
+
+    private Object target;
 
     private final Method method;
 
@@ -102,9 +105,10 @@ public class InvocationContextImpl implements InvocationContext {
 
     private int position;
 
-    private final Map<String, Object> contextData;
+    // Context data are only created if needed
+    private Map<String, Object> contextData;
 
-    private final List<InterceptorInvocation> chain;
+    private final InterceptorInvocation[] chain;
 
     private final Function<InvocationContext, Object> aroundInvokeForward;
 
@@ -123,10 +127,10 @@ public class InvocationContextImpl implements InvocationContext {
      * @param interceptorBindings
      */
     InvocationContextImpl(Object target, Method method, Constructor<?> constructor, Object[] args,
-            List<InterceptorInvocation> chain,
+            InterceptorInvocation[] chain,
             Function<InvocationContext, Object> aroundInvokeForward, Supplier<Object> aroundConstructForward,
             Set<Annotation> interceptorBindings) {
-        this.target = new AtomicReference<>(target);
+        this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.args = args;
@@ -135,18 +139,16 @@ public class InvocationContextImpl implements InvocationContext {
         this.aroundInvokeForward = aroundInvokeForward;
         this.aroundConstructForward = aroundConstructForward;
         this.interceptorBindings = interceptorBindings;
-        contextData = new HashMap<>();
-        contextData.put(KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
     }
 
     boolean hasNextInterceptor() {
-        return position < chain.size();
+        return position < chain.length;
     }
 
     protected Object invokeNext() throws Exception {
         int oldPosition = position;
         try {
-            return chain.get(position++).invoke(this);
+            return chain[position++].invoke(this);
         } finally {
             position = oldPosition;
         }
@@ -157,7 +159,7 @@ public class InvocationContextImpl implements InvocationContext {
             return aroundInvokeForward.apply(this);
         }
         if (aroundConstructForward != null) {
-            target.set(aroundConstructForward.get());
+            target = aroundConstructForward.get();
         }
         return null;
     }
@@ -168,7 +170,7 @@ public class InvocationContextImpl implements InvocationContext {
             if (hasNextInterceptor()) {
                 if (aroundConstructForward != null) {
                     invokeNext();
-                    return target.get();
+                    return target;
                 } else {
                     return invokeNext();
                 }
@@ -190,7 +192,7 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Object getTarget() {
-        return target.get();
+        return target;
     }
 
     @Override
@@ -221,6 +223,10 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new HashMap<>();
+            contextData.put(KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
+        }
         return contextData;
     }
 
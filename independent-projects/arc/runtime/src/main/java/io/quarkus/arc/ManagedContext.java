@@ -26,6 +26,9 @@ public interface ManagedContext extends InjectableContext {
 
     /**
      * Activate the context with no initial state.
+     * <p>
+     * The implementation may defer the initialization of the state until a contextual instance is requested for the first
+     * time. Therefore, it is cheap to activate the context even if no bean with the given scope is used afterwards.
      */
     default void activate() {
         activate(null);
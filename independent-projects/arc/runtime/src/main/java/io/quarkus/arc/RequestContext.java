@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.RequestScoped;
@@ -35,7 +36,14 @@ import javax.enterprise.context.spi.CreationalContext;
 class RequestContext implements ManagedContext {
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<Map<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<ContextState> currentContext = new ThreadLocal<>();
+
+    // The number of slots, i.e. the request context indexes assigned at build time
+    private final int size;
+
+    RequestContext(int size) {
+        this.size = size;
+    }
 
     @Override
     public Class<? extends Annotation> getScope() {
@@ -45,17 +53,18 @@ class RequestContext implements ManagedContext {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        ContextState state = currentContext.get();
+        if (state == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        int index = indexOf(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(index, contextual);
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            state.put(index, contextual, instance);
         }
         return instance != null ? instance.get() : null;
     }
@@ -67,11 +76,11 @@ class RequestContext implements ManagedContext {
 
     @Override
     public Collection<ContextInstanceHandle<?>> getAll() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        ContextState state = currentContext.get();
+        if (state == null) {
             return Collections.emptyList();
         }
-        return new ArrayList<>(ctx.values());
+        return state.getAll();
     }
 
     @Override
@@ -81,12 +90,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        ContextState state = currentContext.get();
+        if (state == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(indexOf(contextual), contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -94,13 +103,13 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void activate(Collection<ContextInstanceHandle<?>> initialState) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> state = new HashMap<>();
+        ContextState state = new ContextState(size);
         if (initialState != null) {
             for (ContextInstanceHandle<?> instanceHandle : initialState) {
                 if (!instanceHandle.getBean().getScope().equals(getScope())) {
                     throw new IllegalArgumentException("Invalid bean scope: " + instanceHandle.getBean());
                 }
-                state.put(instanceHandle.getBean(), instanceHandle);
+                state.put(indexOf(instanceHandle.getBean()), instanceHandle.getBean(), instanceHandle);
             }
         }
         currentContext.set(state);
@@ -113,19 +122,127 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx != null) {
-            synchronized (ctx) {
-                for (InstanceHandle<?> instance : ctx.values()) {
+        ContextState state = currentContext.get();
+        if (state != null && state.isMaterialized()) {
+            synchronized (state) {
+                for (InstanceHandle<?> instance : state.getAll()) {
                     try {
                         instance.destroy();
                     } catch (Exception e) {
                         throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
                     }
                 }
-                ctx.clear();
+                state.clear();
+            }
+        }
+    }
+
+    private int indexOf(Contextual<?> contextual) {
+        if (contextual instanceof InjectableBean) {
+            int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+            return index < size ? index : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * The state of a single activation. It is only materialized when a contextual instance is stored, so that an activation
+     * that does not touch any request scoped bean costs almost nothing.
+     */
+    private static final class ContextState {
+
+        private final int size;
+
+        // Contextual instances of beans with a request context index, lazily initialized
+        private ContextInstanceHandle<?>[] handles;
+
+        // Contextual instances of beans without a request context index, lazily initialized
+        private Map<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        // True if a contextual instance was stored since the last clear
+        private boolean materialized;
+
+        ContextState(int size) {
+            this.size = size;
+        }
+
+        ContextInstanceHandle<?> get(int index, Contextual<?> contextual) {
+            if (!materialized) {
+                return null;
+            }
+            if (index >= 0) {
+                return handles != null ? handles[index] : null;
+            }
+            return others != null ? others.get(contextual) : null;
+        }
+
+        void put(int index, Contextual<?> contextual, ContextInstanceHandle<?> handle) {
+            if (index >= 0) {
+                if (handles == null) {
+                    handles = new ContextInstanceHandle<?>[size];
+                }
+                handles[index] = handle;
+            } else {
+                if (others == null) {
+                    others = new HashMap<>();
+                }
+                others.put(contextual, handle);
+            }
+            materialized = true;
+        }
+
+        ContextInstanceHandle<?> remove(int index, Contextual<?> contextual) {
+            if (!materialized) {
+                return null;
+            }
+            if (index >= 0) {
+                if (handles == null) {
+                    return null;
+                }
+                ContextInstanceHandle<?> handle = handles[index];
+                handles[index] = null;
+                return handle;
+            }
+            return others != null ? others.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> getAll() {
+            if (!materialized) {
+                return Collections.emptyList();
+            }
+            List<ContextInstanceHandle<?>> all = new ArrayList<>();
+            if (handles != null) {
+                for (ContextInstanceHandle<?> handle : handles) {
+                    if (handle != null) {
+                        all.add(handle);
+                    }
+                }
+            }
+            if (others != null) {
+                all.addAll(others.values());
             }
+            return all;
+        }
+
+        boolean isMaterialized() {
+            return materialized;
         }
+
+        void clear() {
+            if (!materialized) {
+                return;
+            }
+            if (handles != null) {
+                for (int i = 0; i < handles.length; i++) {
+                    handles[i] = null;
+                }
+            }
+            if (others != null) {
+                others.clear();
+            }
+            materialized = false;
+        }
+
     }
 
 }
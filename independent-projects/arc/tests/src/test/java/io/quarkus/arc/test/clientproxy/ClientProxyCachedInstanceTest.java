@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ClientProxyCachedInstanceTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Moo.class);
+
+    @Test
+    public void testCachedInstanceInvalidated() {
+        Moo.DESTROYED.set(0);
+        Moo moo = Arc.container().instance(Moo.class).get();
+        assertTrue(moo instanceof ClientProxy);
+        String id = moo.getId();
+        assertEquals(id, moo.getId());
+        assertEquals(id, ((Moo) ((ClientProxy) moo).getContextualInstance()).getId());
+
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        // Destroy the contextual instance of the bean
+        appContext.destroy(Arc.container().instance(Moo.class).getBean());
+        assertEquals(1, Moo.DESTROYED.get());
+        String nextId = moo.getId();
+        assertNotEquals(id, nextId);
+        assertEquals(nextId, moo.getId());
+
+        // Destroy the whole context
+        appContext.destroy();
+        assertEquals(2, Moo.DESTROYED.get());
+        assertNotEquals(nextId, moo.getId());
+    }
+
+    @Test
+    public void testConcurrentDestruction() throws InterruptedException {
+        Moo moo = Arc.container().instance(Moo.class).get();
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        InjectableBean<Moo> bean = Arc.container().instance(Moo.class).getBean();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                while (!stop.get()) {
+                    moo.getId();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        try {
+            for (int i = 0; i < 10000; i++) {
+                appContext.destroy(bean);
+                if (i % 100 == 0) {
+                    appContext.destroy();
+                }
+            }
+        } finally {
+            stop.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+        // No reader may have cached an instance that was destroyed in the meantime
+        assertFalse(moo.isDestroyed());
+    }
+
+    @ApplicationScoped
+    static class Moo {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        private volatile boolean destroyed;
+
+        Moo() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+        boolean isDestroyed() {
+            return destroyed;
+        }
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true;
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.contexts.custom;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.UUID;
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.NormalScope;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CustomContextTest {
+
+    @Rule
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(MyScoped.class, Moo.class)
+            .contextRegistrars(rc -> rc.configure(MyScoped.class).normal().contextClass(MyContext.class).done()).build();
+
+    @Test
+    public void testClientProxyDispatch() {
+        Moo moo = Arc.container().instance(Moo.class).get();
+        assertTrue(moo instanceof ClientProxy);
+
+        MyContext.ACTIVE.set(false);
+        try {
+            moo.getId();
+            fail();
+        } catch (ContextNotActiveException expected) {
+        }
+
+        MyContext.ACTIVE.set(true);
+        String id = moo.getId();
+        assertEquals(id, moo.getId());
+        assertEquals(id, Arc.container().instance(Moo.class).get().getId());
+
+        Arc.container().getActiveContext(MyScoped.class).destroy();
+        assertNotEquals(id, moo.getId());
+    }
+
+    @Documented
+    @NormalScope
+    @Inherited
+    @Target({ TYPE, METHOD, FIELD })
+    @Retention(RUNTIME)
+    public @interface MyScoped {
+
+    }
+
+    @MyScoped
+    static class Moo {
+
+        private String id;
+
+        Moo() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
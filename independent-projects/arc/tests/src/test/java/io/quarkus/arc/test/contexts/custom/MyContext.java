@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.contexts.custom;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.ContextInstanceHandleImpl;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.contexts.custom.CustomContextTest.MyScoped;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+public class MyContext implements InjectableContext {
+
+    static final AtomicBoolean ACTIVE = new AtomicBoolean(true);
+
+    private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> instances = new ConcurrentHashMap<>();
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return MyScoped.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        return (T) instances.computeIfAbsent(contextual, c -> new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
+                contextual.create(creationalContext), creationalContext)).get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Contextual<T> contextual) {
+        ContextInstanceHandle<?> handle = instances.get(contextual);
+        return handle != null ? (T) handle.get() : null;
+    }
+
+    @Override
+    public boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        ContextInstanceHandle<?> handle = instances.remove(contextual);
+        if (handle != null) {
+            handle.destroy();
+        }
+    }
+
+    @Override
+    public Collection<ContextInstanceHandle<?>> getAll() {
+        return new ArrayList<>(instances.values());
+    }
+
+    @Override
+    public void destroy() {
+        for (ContextInstanceHandle<?> handle : instances.values()) {
+            handle.destroy();
+        }
+        instances.clear();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.contexts.dependent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DependentDestructionTest {
+
+    static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Root.class, Middle.class, Leaf.class, Plain.class);
+
+    @Test
+    public void testTransitiveDestruction() {
+        DESTROYED.clear();
+        InstanceHandle<Root> root = Arc.container().instance(Root.class);
+        assertEquals("leaf", root.get().middle.leaf.getId());
+        assertEquals("plain", root.get().plain.getId());
+        assertTrue(DESTROYED.isEmpty());
+        root.destroy();
+        // Root and Middle have no destruction callbacks but Leaf must be destroyed anyway
+        assertEquals(1, DESTROYED.size());
+        assertEquals("leaf", DESTROYED.get(0));
+    }
+
+    @Dependent
+    static class Root {
+
+        @Inject
+        Middle middle;
+
+        @Inject
+        Plain plain;
+
+    }
+
+    @Dependent
+    static class Middle {
+
+        @Inject
+        Leaf leaf;
+
+    }
+
+    @Dependent
+    static class Leaf {
+
+        String getId() {
+            return "leaf";
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add(getId());
+        }
+
+    }
+
+    @Dependent
+    static class Plain {
+
+        String getId() {
+            return "plain";
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.instance.select;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class InstanceSelectTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Client.class, NumberProducer.class,
+            MyQualifier.class);
+
+    @Test
+    public void testSelect() {
+        ArcContainer arc = Arc.container();
+        Client client = arc.instance(Client.class).get();
+
+        Instance<Alpha> alpha = client.services.select(Alpha.class);
+        assertSame(alpha, client.services.select(Alpha.class));
+        assertEquals("alpha", alpha.get().ping());
+        assertTrue(client.services.select(Bravo.class).isResolvable());
+        assertTrue(client.services.isAmbiguous());
+        assertEquals("bravo", client.services.select(new MyQualifierLiteral()).get().ping());
+        assertSame(client.services, client.services.select());
+
+        // Primitive producer types are matched against boxed required types
+        assertEquals(Integer.valueOf(10), arc.instance(Integer.class).get());
+        assertEquals(Integer.valueOf(10), arc.instance(int.class).get());
+        assertFalse(arc.instance(Long.class).isAvailable());
+    }
+
+    @SuppressWarnings("serial")
+    static class MyQualifierLiteral extends AnnotationLiteral<MyQualifier> implements MyQualifier {
+
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Dependent
+    static class NumberProducer {
+
+        @Produces
+        int ten() {
+            return 10;
+        }
+
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        @Any
+        Instance<Service> services;
+
+    }
+
+}
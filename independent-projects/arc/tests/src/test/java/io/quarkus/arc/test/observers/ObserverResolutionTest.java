@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.observers;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.literal.NamedLiteral;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ObserverResolutionTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observer.class, Important.class);
+
+    @Test
+    public void testResolution() {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        BeanManager beanManager = Arc.container().beanManager();
+
+        // Repeated notifications must reuse the same observers in the same order
+        for (int i = 0; i < 3; i++) {
+            observer.getEvents().clear();
+            beanManager.fireEvent(new StringBuilder("foo"));
+            assertEquals(Arrays.asList("object:foo", "charSequence:foo"), observer.getEvents());
+
+            observer.getEvents().clear();
+            producer.event.select(Important.Literal.INSTANCE).fire("bar");
+            assertEquals(Arrays.asList("important:bar", "object:bar", "charSequence:bar"), observer.getEvents());
+
+            observer.getEvents().clear();
+            beanManager.fireEvent("baz");
+            assertEquals(Arrays.asList("object:baz", "charSequence:baz"), observer.getEvents());
+
+            observer.getEvents().clear();
+            producer.listEvent.fire(new ArrayList<>(Arrays.asList("qux")));
+            assertEquals(Arrays.asList("object:[qux]", "list:[qux]"), observer.getEvents());
+        }
+    }
+
+    @Test
+    public void testDynamicQualifiers() {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+
+        // The notifiers for qualifiers no observer declares are not shared, but must resolve the same observers
+        for (int i = 0; i < 100; i++) {
+            observer.getEvents().clear();
+            producer.event.select(NamedLiteral.of("dynamic" + i)).fire("foo");
+            assertEquals(Arrays.asList("object:foo", "charSequence:foo"), observer.getEvents());
+        }
+        observer.getEvents().clear();
+        producer.event.select(NamedLiteral.of("known")).fire("bar");
+        assertEquals(Arrays.asList("known:bar", "object:bar", "charSequence:bar"), observer.getEvents());
+    }
+
+    @Singleton
+    static class Observer {
+
+        private List<String> events;
+
+        @PostConstruct
+        void init() {
+            events = new CopyOnWriteArrayList<>();
+        }
+
+        void observeObject(@Observes @Priority(10) Object value) {
+            if (value instanceof CharSequence || value instanceof List) {
+                events.add("object:" + value);
+            }
+        }
+
+        void observeCharSequence(@Observes @Priority(20) CharSequence value) {
+            events.add("charSequence:" + value);
+        }
+
+        void observeImportant(@Observes @Priority(1) @Important String value) {
+            events.add("important:" + value);
+        }
+
+        void observeKnown(@Observes @Priority(1) @Named("known") String value) {
+            events.add("known:" + value);
+        }
+
+        void observeList(@Observes @Priority(20) List<String> value) {
+            events.add("list:" + value);
+        }
+
+        List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<String> event;
+
+        @Inject
+        Event<List<String>> listEvent;
+
+    }
+
+    @Qualifier
+    @Target({ TYPE, METHOD, PARAMETER, FIELD })
+    @Retention(RUNTIME)
+    public @interface Important {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Important> implements Important {
+
+            public static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+}
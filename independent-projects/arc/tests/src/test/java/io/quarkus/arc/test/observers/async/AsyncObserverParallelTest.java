@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.AsyncNotificationMode;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class AsyncObserverParallelTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(StringProducer.class, StringObserver.class);
+
+    @Test
+    public void testParallelNotification() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "parallel-async"));
+        try {
+            ArcContainer container = Arc.container();
+            Arc.setExecutor(executor);
+            assertSame(executor, container.getExecutor());
+
+            StringProducer producer = container.instance(StringProducer.class).get();
+            StringObserver observer = container.instance(StringObserver.class).get();
+
+            // Both observers wait for each other - this would time out if notified serially
+            try {
+                producer.event.fireAsync("ping",
+                        NotificationOptions.of(AsyncNotificationMode.OPTION_KEY, AsyncNotificationMode.PARALLEL))
+                        .toCompletableFuture().join();
+                fail();
+            } catch (CompletionException expected) {
+                assertNotNull(expected.getCause());
+                assertEquals("nok", expected.getCause().getMessage());
+            }
+            List<String> events = observer.getEvents();
+            assertEquals(2, events.size());
+            assertTrue(events.contains("async1::ping::true"));
+            assertTrue(events.contains("async2::ping::true"));
+            assertTrue(observer.getThreads().stream().allMatch("parallel-async"::equals));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidNotificationMode() {
+        StringProducer producer = Arc.container().instance(StringProducer.class).get();
+        try {
+            producer.event.fireAsync("ping", NotificationOptions.of(AsyncNotificationMode.OPTION_KEY, "sequential"));
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains(AsyncNotificationMode.OPTION_KEY));
+            assertTrue(expected.getMessage().contains("[SERIAL, PARALLEL]"));
+        }
+        assertTrue(Arc.container().instance(StringObserver.class).get().getEvents().isEmpty());
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        private List<String> events;
+
+        private List<String> threads;
+
+        private CountDownLatch latch;
+
+        @PostConstruct
+        void init() {
+            events = new CopyOnWriteArrayList<>();
+            threads = new CopyOnWriteArrayList<>();
+            latch = new CountDownLatch(2);
+        }
+
+        void observeAsync1(@ObservesAsync String value) throws InterruptedException {
+            events.add("async1::" + value + "::" + await());
+        }
+
+        void observeAsync2(@ObservesAsync String value) throws InterruptedException {
+            events.add("async2::" + value + "::" + await());
+            throw new RuntimeException("nok");
+        }
+
+        private boolean await() throws InterruptedException {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+        List<String> getEvents() {
+            return events;
+        }
+
+        List<String> getThreads() {
+            return threads;
+        }
+
+    }
+
+    @Singleton
+    static class StringProducer {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+}
@@ -24,8 +24,10 @@ import static org.junit.Assert.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
+import java.util.Collection;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.control.RequestContextController;
 import org.junit.Rule;
@@ -130,4 +132,38 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testGetAllAndDestroy() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        assertTrue(requestContext.getAll().isEmpty());
+        Controller controller = arc.instance(Controller.class).get();
+        String controllerId = controller.getId();
+        Collection<ContextInstanceHandle<?>> state = requestContext.getAll();
+        assertEquals(1, state.size());
+        assertEquals(controllerId, ((Controller) state.iterator().next().get()).getId());
+
+        // Deactivate and activate with the previous state
+        requestContext.deactivate();
+        assertFalse(requestContext.isActive());
+        assertFalse(Controller.DESTROYED.get());
+        requestContext.activate(state);
+        assertEquals(controllerId, controller.getId());
+
+        // Destroy a single instance
+        requestContext.destroy(arc.instance(Controller.class).getBean());
+        assertTrue(Controller.DESTROYED.get());
+        assertTrue(requestContext.getAll().isEmpty());
+        assertNotEquals(controllerId, controller.getId());
+        requestContext.terminate();
+
+        // The state is not shared between activations
+        requestContext.activate();
+        assertTrue(requestContext.getAll().isEmpty());
+        requestContext.terminate();
+    }
+
 }
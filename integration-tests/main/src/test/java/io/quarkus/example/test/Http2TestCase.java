@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.example.test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.xnio.IoUtils;
+import org.xnio.OptionMap;
+import org.xnio.Xnio;
+import org.xnio.XnioWorker;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.undertow.UndertowOptions;
+import io.undertow.client.ClientCallback;
+import io.undertow.client.ClientConnection;
+import io.undertow.client.ClientExchange;
+import io.undertow.client.ClientRequest;
+import io.undertow.client.UndertowClient;
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.server.DefaultByteBufferPool;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StringReadChannelListener;
+
+@QuarkusTest
+public class Http2TestCase {
+
+    @TestHTTPResource("testservlet")
+    URI uri;
+
+    @Test
+    public void testPriorKnowledge() throws Exception {
+        Assertions.assertEquals("A message", get("h2c-prior"));
+    }
+
+    @Test
+    public void testUpgrade() throws Exception {
+        Assertions.assertEquals("A message", get("h2c"));
+    }
+
+    private String get(String scheme) throws Exception {
+        URI target = new URI(scheme, null, uri.getHost(), uri.getPort(), uri.getPath(), null, null);
+        XnioWorker worker = Xnio.getInstance().createWorker(OptionMap.EMPTY);
+        ByteBufferPool bufferPool = new DefaultByteBufferPool(false, 8192);
+        try {
+            ClientConnection connection = UndertowClient.getInstance()
+                    .connect(target, worker, bufferPool, OptionMap.create(UndertowOptions.ENABLE_HTTP2, true)).get();
+            try {
+                // only HTTP/2 connections can multiplex requests
+                Assertions.assertTrue(connection.isMultiplexingSupported());
+                CompletableFuture<String> body = new CompletableFuture<>();
+                ClientRequest request = new ClientRequest().setMethod(Methods.GET).setPath(target.getPath());
+                request.getRequestHeaders().put(Headers.HOST, target.getHost());
+                connection.sendRequest(request, new ClientCallback<ClientExchange>() {
+                    @Override
+                    public void completed(ClientExchange exchange) {
+                        exchange.setResponseListener(new ClientCallback<ClientExchange>() {
+                            @Override
+                            public void completed(ClientExchange result) {
+                                new StringReadChannelListener(bufferPool) {
+                                    @Override
+                                    protected void stringDone(String string) {
+                                        body.complete(string);
+                                    }
+
+                                    @Override
+                                    protected void error(IOException e) {
+                                        body.completeExceptionally(e);
+                                    }
+                                }.setup(result.getResponseChannel());
+                            }
+
+                            @Override
+                            public void failed(IOException e) {
+                                body.completeExceptionally(e);
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void failed(IOException e) {
+                        body.completeExceptionally(e);
+                    }
+                });
+                return body.get(10, TimeUnit.SECONDS);
+            } finally {
+                IoUtils.safeClose(connection);
+            }
+        } finally {
+            worker.shutdown();
+        }
+    }
+}